@@ -0,0 +1,51 @@
+package com.marcus.fullcycle.video.catalog.admin.application;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Runs the work of a use case as one unit: its repository calls share a
+ * single transaction, and so a single connection, committed once when the
+ * work returns and rolled back when it throws. Implemented by the
+ * infrastructure, which knows about transactions.
+ */
+public interface UnitOfWork {
+    <T> T execute(Supplier<T> work);
+
+    /**
+     * Like {@link #execute(Supplier)}, but also rolled back when the work
+     * returns a result matching {@code rollbackIf}: for work that turns its
+     * failures into results, e.g. with {@code API.Try}, instead of throwing.
+     * Otherwise the commit would fail on a transaction already marked for
+     * rollback by the repository that threw.
+     */
+    <T> T execute(Supplier<T> work, Predicate<? super T> rollbackIf);
+
+    /**
+     * Like {@link #execute(Supplier)}, for work that doesn't write: the
+     * transaction is read-only, so nothing is tracked for changes or flushed.
+     */
+    <T> T executeReadOnly(Supplier<T> work);
+
+    /**
+     * Runs the work as it is, each repository call in its own transaction.
+     */
+    static UnitOfWork none() {
+        return new UnitOfWork() {
+            @Override
+            public <T> T execute(final Supplier<T> work) {
+                return work.get();
+            }
+
+            @Override
+            public <T> T execute(final Supplier<T> work, final Predicate<? super T> rollbackIf) {
+                return work.get();
+            }
+
+            @Override
+            public <T> T executeReadOnly(final Supplier<T> work) {
+                return work.get();
+            }
+        };
+    }
+}
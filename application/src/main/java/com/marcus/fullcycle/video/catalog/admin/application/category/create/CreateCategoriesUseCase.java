@@ -0,0 +1,12 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.create;
+
+import java.util.List;
+
+import com.marcus.fullcycle.video.catalog.admin.application.UseCase;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+public abstract class CreateCategoriesUseCase
+        extends UseCase<List<CreateCategoryCommand>, Either<List<Notification>, List<CreateCategoryOutput>>> {
+}
@@ -0,0 +1,54 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.create;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.handler.Notification;
+
+import io.vavr.API;
+import io.vavr.control.Either;
+
+/**
+ * Creates many categories at once, all or nothing. When any of them is
+ * invalid, nothing is created and the result holds one notification per
+ * command, in the same order, empty for the valid ones.
+ */
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+    private final CategoryRepository repository;
+
+    public DefaultCreateCategoriesUseCase(final CategoryRepository repository) {
+        this.repository = Objects.requireNonNull(repository);
+    }
+
+    @Override
+    public Either<List<Notification>, List<CreateCategoryOutput>> execute(final List<CreateCategoryCommand> input) {
+        final var categories = input.stream()
+                .map(command -> Category.newCategory(command.name(), command.description(), command.isActive()))
+                .toList();
+
+        final var notifications = categories.stream()
+                .map(category -> {
+                    final var notification = Notification.create();
+                    category.validate(notification);
+                    return notification;
+                })
+                .toList();
+
+        return notifications.stream().anyMatch(Notification::hasError)
+                ? API.Left(notifications)
+                : create(categories);
+    }
+
+    private Either<List<Notification>, List<CreateCategoryOutput>> create(final List<Category> categories) {
+        if (categories.isEmpty())
+            return API.Right(List.of());
+
+        return API.Try(() -> repository.createAll(categories))
+                .toEither()
+                .bimap(
+                        t -> List.of(Notification.create(t)),
+                        created -> created.stream().map(CreateCategoryOutput::from).toList());
+    }
+}
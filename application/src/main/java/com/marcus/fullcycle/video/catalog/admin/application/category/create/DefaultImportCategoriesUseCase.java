@@ -0,0 +1,107 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.create;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.handler.Notification;
+
+import io.vavr.API;
+
+/**
+ * Validates the lines one by one and creates the valid ones in chunks of
+ * {@code chunkSize}, one batch and transaction per chunk. The next line is
+ * only read once the previous chunk is written, so at most one chunk is held
+ * in memory whatever the size of the input.
+ *
+ * <p>When a chunk fails as a whole, its categories are created one at a time,
+ * so only the lines that actually fail are rejected.
+ */
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+    private final CategoryRepository repository;
+    private final int chunkSize;
+
+    public DefaultImportCategoriesUseCase(final CategoryRepository repository, final int chunkSize) {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("`chunkSize` must be at least 1");
+
+        this.repository = Objects.requireNonNull(repository);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportCategoriesOutput execute(final ImportCategoriesCommand input) {
+        final var chunk = new Chunk(input);
+
+        while (input.lines().hasNext()) {
+            final var line = input.lines().next();
+            if (line.isMalformed()) {
+                chunk.reject(line.number(), Notification.create(line.malformed()));
+                continue;
+            }
+
+            final var command = line.command();
+            final var category = Category.newCategory(command.name(), command.description(), command.isActive());
+            final var notification = Notification.create();
+            category.validate(notification);
+
+            if (notification.hasError())
+                chunk.reject(line.number(), notification);
+            else if (chunk.add(line.number(), category) == chunkSize)
+                chunk.write();
+        }
+        chunk.write();
+
+        return ImportCategoriesOutput.from(chunk.imported, chunk.rejected);
+    }
+
+    private class Chunk {
+        private final ImportCategoriesCommand input;
+        private final List<Long> lineNumbers = new ArrayList<>();
+        private final List<Category> categories = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        Chunk(final ImportCategoriesCommand input) {
+            this.input = input;
+        }
+
+        int add(final long lineNumber, final Category category) {
+            lineNumbers.add(lineNumber);
+            categories.add(category);
+            return categories.size();
+        }
+
+        void reject(final long lineNumber, final Notification notification) {
+            rejected++;
+            input.rejections().accept(ImportCategoryRejection.from(lineNumber, notification));
+        }
+
+        void write() {
+            if (categories.isEmpty())
+                return;
+
+            final var written = API.Try(() -> repository.createAll(categories));
+            if (written.isSuccess())
+                imported += categories.size();
+            else
+                writeOneByOne();
+
+            lineNumbers.clear();
+            categories.clear();
+        }
+
+        private void writeOneByOne() {
+            for (int i = 0; i < categories.size(); i++) {
+                final var category = categories.get(i);
+                final var written = API.Try(() -> repository.create(category));
+                if (written.isSuccess())
+                    imported++;
+                else
+                    reject(lineNumbers.get(i), Notification.create(written.getCause()));
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.create;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Lines are pulled from {@code lines} only as fast as they are written, and
+ * every line that isn't imported is handed to {@code rejections} as soon as
+ * that is known.
+ */
+public record ImportCategoriesCommand(
+        Iterator<ImportCategoryLine> lines,
+        Consumer<ImportCategoryRejection> rejections) {
+    public static ImportCategoriesCommand with(
+            final Iterator<ImportCategoryLine> lines,
+            final Consumer<ImportCategoryRejection> rejections) {
+        return new ImportCategoriesCommand(lines, rejections);
+    }
+}
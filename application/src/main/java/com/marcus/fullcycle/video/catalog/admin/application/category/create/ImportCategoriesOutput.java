@@ -0,0 +1,7 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.create;
+
+public record ImportCategoriesOutput(long imported, long rejected) {
+    public static ImportCategoriesOutput from(final long imported, final long rejected) {
+        return new ImportCategoriesOutput(imported, rejected);
+    }
+}
@@ -0,0 +1,6 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.create;
+
+import com.marcus.fullcycle.video.catalog.admin.application.UseCase;
+
+public abstract class ImportCategoriesUseCase extends UseCase<ImportCategoriesCommand, ImportCategoriesOutput> {
+}
@@ -0,0 +1,21 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.create;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+
+/**
+ * One line of an import: either the category it describes, or the reason it
+ * couldn't be parsed.
+ */
+public record ImportCategoryLine(long number, CreateCategoryCommand command, Error malformed) {
+    public static ImportCategoryLine with(final long number, final CreateCategoryCommand command) {
+        return new ImportCategoryLine(number, command, null);
+    }
+
+    public static ImportCategoryLine malformed(final long number, final String message) {
+        return new ImportCategoryLine(number, null, new Error(message));
+    }
+
+    public boolean isMalformed() {
+        return malformed != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.create;
+
+import java.util.List;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.ValidationHandler;
+
+public record ImportCategoryRejection(long line, List<Error> errors) {
+    public static ImportCategoryRejection from(final long line, final ValidationHandler handler) {
+        return new ImportCategoryRejection(line, List.copyOf(handler.getErrors()));
+    }
+}
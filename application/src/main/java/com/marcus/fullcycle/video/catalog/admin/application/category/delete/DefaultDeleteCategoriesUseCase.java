@@ -0,0 +1,27 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.delete;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+
+/**
+ * Deletes many categories at once, leaving it to the repository to do it in
+ * as few statements as it can. Unknown ids are ignored.
+ */
+public class DefaultDeleteCategoriesUseCase extends DeleteCategoriesUseCase {
+    private final CategoryRepository repository;
+
+    public DefaultDeleteCategoriesUseCase(final CategoryRepository repository) {
+        this.repository = Objects.requireNonNull(repository);
+    }
+
+    @Override
+    public void execute(final Collection<String> ids) {
+        if (ids == null || ids.isEmpty())
+            return;
+
+        repository.deleteAllById(ids.stream().map(CategoryId::from).toList());
+    }
+}
@@ -0,0 +1,8 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.delete;
+
+import java.util.Collection;
+
+import com.marcus.fullcycle.video.catalog.admin.application.InputOnlyUseCase;
+
+public abstract class DeleteCategoriesUseCase extends InputOnlyUseCase<Collection<String>> {
+}
@@ -0,0 +1,24 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.export;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+
+/**
+ * Hands every category to the given consumer as it is read, e.g. to write it
+ * to a response, without collecting them first.
+ */
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+    private final CategoryRepository repository;
+
+    public DefaultExportCategoriesUseCase(final CategoryRepository repository) {
+        this.repository = Objects.requireNonNull(repository);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryListOutput> output) {
+        repository.forEach(category -> output.accept(CategoryListOutput.from(category)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.export;
+
+import java.util.function.Consumer;
+
+import com.marcus.fullcycle.video.catalog.admin.application.InputOnlyUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+
+public abstract class ExportCategoriesUseCase extends InputOnlyUseCase<Consumer<CategoryListOutput>> {
+}
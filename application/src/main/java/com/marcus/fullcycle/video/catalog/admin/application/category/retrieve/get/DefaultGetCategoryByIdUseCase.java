@@ -1,5 +1,6 @@
 package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.get;
 
+import com.marcus.fullcycle.video.catalog.admin.application.UnitOfWork;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
 import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
@@ -9,15 +10,19 @@ import java.util.function.Supplier;
 
 public class DefaultGetCategoryByIdUseCase extends GetCategoryByIdUseCase {
     private final CategoryRepository repository;
+    private final UnitOfWork unitOfWork;
 
-    public DefaultGetCategoryByIdUseCase(CategoryRepository repository) {
+    public DefaultGetCategoryByIdUseCase(CategoryRepository repository, UnitOfWork unitOfWork) {
         this.repository = repository;
+        this.unitOfWork = unitOfWork;
     }
 
     @Override
     public GetCategoryOutput execute(String id) {
         final var categoryId = CategoryId.from(id);
-        return repository.findById(categoryId).map(GetCategoryOutput::from).orElseThrow(notFound(categoryId));
+        return unitOfWork.executeReadOnly(() -> repository.findById(categoryId))
+                .map(GetCategoryOutput::from)
+                .orElseThrow(notFound(categoryId));
     }
 
     private Supplier<DomainException> notFound(final CategoryId id) {
@@ -2,6 +2,7 @@ package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.l
 
 import java.util.Objects;
 
+import com.marcus.fullcycle.video.catalog.admin.application.UnitOfWork;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
 import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
@@ -9,13 +10,16 @@ import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
 public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
     private final CategoryRepository repository;
+    private final UnitOfWork unitOfWork;
 
-    public DefaultListCategoriesUseCase(final CategoryRepository repository) {
+    public DefaultListCategoriesUseCase(final CategoryRepository repository, final UnitOfWork unitOfWork) {
         this.repository = Objects.requireNonNull(repository);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
     }
 
+    // The page and its count share one read-only transaction
     @Override
     public Pagination<CategoryListOutput> execute(final CategorySearchQuery input) {
-        return repository.findAll(input).map(CategoryListOutput::from);
+        return unitOfWork.executeReadOnly(() -> repository.findAll(input, CategoryListOutput::new));
     }
 }
@@ -0,0 +1,12 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.suggest;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+
+public record CategorySuggestionOutput(
+        CategoryId id,
+        String name) {
+    public static CategorySuggestionOutput from(final CategorySuggestion suggestion) {
+        return new CategorySuggestionOutput(suggestion.id(), suggestion.name());
+    }
+}
@@ -0,0 +1,27 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.suggest;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+
+public class DefaultSuggestCategoriesUseCase extends SuggestCategoriesUseCase {
+    // Keeps a single keystroke from asking for the whole catalog
+    public static final int MAX_LIMIT = 50;
+
+    private final CategoryRepository repository;
+
+    public DefaultSuggestCategoriesUseCase(final CategoryRepository repository) {
+        this.repository = Objects.requireNonNull(repository);
+    }
+
+    @Override
+    public List<CategorySuggestionOutput> execute(final SuggestCategoriesCommand input) {
+        if (input.prefix() == null || input.prefix().isBlank() || input.limit() < 1)
+            return List.of();
+
+        return repository.suggest(input.prefix().strip(), Math.min(input.limit(), MAX_LIMIT)).stream()
+                .map(CategorySuggestionOutput::from)
+                .toList();
+    }
+}
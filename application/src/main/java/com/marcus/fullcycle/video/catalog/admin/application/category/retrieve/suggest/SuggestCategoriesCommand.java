@@ -0,0 +1,11 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.suggest;
+
+public record SuggestCategoriesCommand(
+        String prefix,
+        int limit) {
+    public static SuggestCategoriesCommand with(
+            final String prefix,
+            final int limit) {
+        return new SuggestCategoriesCommand(prefix, limit);
+    }
+}
@@ -0,0 +1,9 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.suggest;
+
+import java.util.List;
+
+import com.marcus.fullcycle.video.catalog.admin.application.UseCase;
+
+public abstract class SuggestCategoriesUseCase
+        extends UseCase<SuggestCategoriesCommand, List<CategorySuggestionOutput>> {
+}
@@ -0,0 +1,70 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.update;
+
+import java.util.Objects;
+
+import com.marcus.fullcycle.video.catalog.admin.application.UnitOfWork;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryField;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.handler.Notification;
+
+import io.vavr.API;
+import io.vavr.control.Either;
+
+/**
+ * Unlike {@link DefaultUpdateCategoryUseCase} the category is never read: the
+ * patch is validated on its own and written straight over the row.
+ */
+public class DefaultPatchCategoryUseCase extends PatchCategoryUseCase {
+    private final CategoryRepository repository;
+    private final UnitOfWork unitOfWork;
+
+    public DefaultPatchCategoryUseCase(final CategoryRepository repository, final UnitOfWork unitOfWork) {
+        this.repository = Objects.requireNonNull(repository);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
+    }
+
+    @Override
+    public Either<Notification, PatchCategoryOutput> execute(final PatchCategoryCommand input) {
+        final var patch = toPatch(input);
+        final var notification = Notification.create();
+        patch.validate(notification);
+        if (notification.hasError())
+            return API.Left(notification);
+
+        return patch(patch, input);
+    }
+
+    // Like a missing category in DefaultUpdateCategoryUseCase, one that doesn't exist is thrown
+    private Either<Notification, PatchCategoryOutput> patch(
+            final CategoryPatch patch,
+            final PatchCategoryCommand input) {
+        final var result = API.Try(() -> unitOfWork.execute(() -> repository.patch(patch)));
+        if (result.isFailure())
+            return API.Left(Notification.create(result.getCause()));
+
+        if (!result.get())
+            throw notFound(input);
+
+        return API.Right(PatchCategoryOutput.from(patch));
+    }
+
+    private static CategoryPatch toPatch(final PatchCategoryCommand input) {
+        var patch = CategoryPatch.of(CategoryId.from(input.id()));
+        if (input.fields().contains(CategoryField.NAME))
+            patch = patch.withName(input.name());
+        if (input.fields().contains(CategoryField.DESCRIPTION))
+            patch = patch.withDescription(input.description());
+        if (input.fields().contains(CategoryField.ACTIVE))
+            patch = patch.withActive(input.isActive());
+        return patch;
+    }
+
+    private static DomainException notFound(final PatchCategoryCommand input) {
+        return DomainException.with(new Error(
+                "Category with ID %s was not found".formatted(input.id())));
+    }
+}
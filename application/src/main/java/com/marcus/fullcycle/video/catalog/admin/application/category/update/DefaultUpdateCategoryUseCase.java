@@ -2,9 +2,11 @@ package com.marcus.fullcycle.video.catalog.admin.application.category.update;
 
 import java.util.Objects;
 
+import com.marcus.fullcycle.video.catalog.admin.application.UnitOfWork;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.ConflictException;
 import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
 import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
 import com.marcus.fullcycle.video.catalog.admin.domain.validation.handler.Notification;
@@ -14,13 +16,20 @@ import io.vavr.control.Either;
 
 public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     private final CategoryRepository repository;
+    private final UnitOfWork unitOfWork;
 
-    public DefaultUpdateCategoryUseCase(CategoryRepository repository) {
+    public DefaultUpdateCategoryUseCase(final CategoryRepository repository, final UnitOfWork unitOfWork) {
         this.repository = Objects.requireNonNull(repository);
+        this.unitOfWork = Objects.requireNonNull(unitOfWork);
     }
 
+    // The category is read and written back in one transaction, rolled back when the result is an error
     @Override
     public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand input) {
+        return unitOfWork.execute(() -> updateCategory(input), Either::isLeft);
+    }
+
+    private Either<Notification, UpdateCategoryOutput> updateCategory(final UpdateCategoryCommand input) {
         final var category = repository.findById(CategoryId.from(input.id()))
                 .orElseThrow(() -> notFound(input));
         final var notification = Notification.create();
@@ -34,9 +43,17 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
                 "Category with ID %s was not found".formatted(input.id())));
     }
 
+    // A conflict is not a validation error: it is rethrown, like a missing category
     private Either<Notification, UpdateCategoryOutput> update(Category category) {
-        return API.Try(() -> repository.update(category))
-                .toEither()
+        // Nothing to write when the command holds the current values
+        if (!category.hasChanges())
+            return API.Right(UpdateCategoryOutput.from(category));
+
+        final var result = API.Try(() -> repository.update(category));
+        if (result.isFailure() && result.getCause() instanceof ConflictException conflict)
+            throw conflict;
+
+        return result.toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
 }
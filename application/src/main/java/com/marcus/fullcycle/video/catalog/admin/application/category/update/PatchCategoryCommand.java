@@ -0,0 +1,40 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.update;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryField;
+
+/**
+ * Only the values of {@code fields} are changed, so a field left out keeps
+ * its current value while one sent as null, like the description, is
+ * cleared.
+ */
+public record PatchCategoryCommand(
+        String id,
+        Set<CategoryField> fields,
+        String name,
+        String description,
+        boolean isActive) {
+    public static PatchCategoryCommand with(final String id) {
+        return new PatchCategoryCommand(id, Set.of(), null, null, false);
+    }
+
+    public PatchCategoryCommand withName(final String name) {
+        return new PatchCategoryCommand(id, with(CategoryField.NAME), name, description, isActive);
+    }
+
+    public PatchCategoryCommand withDescription(final String description) {
+        return new PatchCategoryCommand(id, with(CategoryField.DESCRIPTION), name, description, isActive);
+    }
+
+    public PatchCategoryCommand withActive(final boolean isActive) {
+        return new PatchCategoryCommand(id, with(CategoryField.ACTIVE), name, description, isActive);
+    }
+
+    private Set<CategoryField> with(final CategoryField field) {
+        final var all = EnumSet.of(field);
+        all.addAll(fields);
+        return Set.copyOf(all);
+    }
+}
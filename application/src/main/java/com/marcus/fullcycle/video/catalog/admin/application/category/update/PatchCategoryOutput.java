@@ -0,0 +1,13 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.update;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
+
+public record PatchCategoryOutput(String id) {
+    public static PatchCategoryOutput from(final String id) {
+        return new PatchCategoryOutput(id);
+    }
+
+    public static PatchCategoryOutput from(final CategoryPatch patch) {
+        return new PatchCategoryOutput(patch.id().getValue());
+    }
+}
@@ -0,0 +1,92 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.create;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.AdditionalAnswers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryRepository repository;
+
+    @BeforeEach
+    void beforeEach() {
+        Mockito.reset(repository);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallCreateCategories_shouldCreateThemAtOnce() {
+        final var commands = List.of(
+                CreateCategoryCommand.with("Movies", "Most watched category", true),
+                CreateCategoryCommand.with("Series", null, false));
+
+        Mockito.when(repository.createAll(Mockito.any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var output = useCase.execute(commands).get();
+
+        Assertions.assertEquals(2, output.size());
+        Assertions.assertTrue(output.stream().allMatch(item -> item.id() != null));
+
+        Mockito.verify(repository, Mockito.times(1))
+                .createAll(Mockito.argThat(categories -> categories.size() == 2
+                        && "Movies".equals(categories.get(0).getName())
+                        && "Series".equals(categories.get(1).getName())
+                        && !categories.get(1).isActive()));
+        Mockito.verify(repository, Mockito.never()).create(Mockito.any());
+    }
+
+    @Test
+    public void givenAnInvalidCommand_whenCallCreateCategories_shouldReturnOneNotificationPerCommand() {
+        final var expectedErrorMessage = "`name` should not be null";
+
+        final var commands = List.of(
+                CreateCategoryCommand.with("Movies", null, true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Series", null, true));
+
+        final var notifications = useCase.execute(commands).getLeft();
+
+        Assertions.assertEquals(3, notifications.size());
+        Assertions.assertFalse(notifications.get(0).hasError());
+        Assertions.assertEquals(expectedErrorMessage, notifications.get(1).getErrors().get(0).message());
+        Assertions.assertFalse(notifications.get(2).hasError());
+
+        Mockito.verify(repository, Mockito.never()).createAll(Mockito.any());
+    }
+
+    @Test
+    public void givenValidCommands_whenRepositoryThrowsException_shouldReturnAnError() {
+        final var expectedErrorMessage = "Repository error";
+
+        Mockito.when(repository.createAll(Mockito.any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var notifications = useCase.execute(List.of(CreateCategoryCommand.with("Movies", null, true)))
+                .getLeft();
+
+        Assertions.assertEquals(1, notifications.size());
+        Assertions.assertEquals(expectedErrorMessage, notifications.get(0).getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenNoCommands_whenCallCreateCategories_shouldNotCallTheRepository() {
+        final var output = useCase.execute(List.of()).get();
+
+        Assertions.assertTrue(output.isEmpty());
+        Mockito.verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,109 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.create;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportCategoriesUseCaseTest {
+    private static final int CHUNK_SIZE = 2;
+
+    private DefaultImportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryRepository repository;
+
+    @BeforeEach
+    void beforeEach() {
+        Mockito.reset(repository);
+        useCase = new DefaultImportCategoriesUseCase(repository, CHUNK_SIZE);
+    }
+
+    @Test
+    public void givenValidLines_whenCallsImportCategories_shouldCreateThemInChunks() {
+        final var lines = List.of(
+                ImportCategoryLine.with(1, CreateCategoryCommand.with("Movies", null, true)),
+                ImportCategoryLine.with(2, CreateCategoryCommand.with("Series", null, true)),
+                ImportCategoryLine.with(3, CreateCategoryCommand.with("Documentaries", null, false)));
+
+        Mockito.when(repository.createAll(Mockito.any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var rejections = new ArrayList<ImportCategoryRejection>();
+        final var output = useCase.execute(ImportCategoriesCommand.with(lines.iterator(), rejections::add));
+
+        Assertions.assertEquals(3, output.imported());
+        Assertions.assertEquals(0, output.rejected());
+        Assertions.assertTrue(rejections.isEmpty());
+
+        Mockito.verify(repository, Mockito.times(1))
+                .createAll(Mockito.argThat(categories -> categories.size() == 2
+                        && "Movies".equals(categories.get(0).getName())));
+        Mockito.verify(repository, Mockito.times(1))
+                .createAll(Mockito.argThat(categories -> categories.size() == 1
+                        && "Documentaries".equals(categories.get(0).getName())));
+    }
+
+    @Test
+    public void givenInvalidAndMalformedLines_whenCallsImportCategories_shouldRejectOnlyThem() {
+        final var expectedErrorMessage = "`name` should not be null";
+
+        final var lines = List.of(
+                ImportCategoryLine.with(1, CreateCategoryCommand.with("Movies", null, true)),
+                ImportCategoryLine.with(2, CreateCategoryCommand.with(null, null, true)),
+                ImportCategoryLine.malformed(3, "Malformed JSON"),
+                ImportCategoryLine.with(4, CreateCategoryCommand.with("Series", null, true)));
+
+        Mockito.when(repository.createAll(Mockito.any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var rejections = new ArrayList<ImportCategoryRejection>();
+        final var output = useCase.execute(ImportCategoriesCommand.with(lines.iterator(), rejections::add));
+
+        Assertions.assertEquals(2, output.imported());
+        Assertions.assertEquals(2, output.rejected());
+        Assertions.assertEquals(2, rejections.get(0).line());
+        Assertions.assertEquals(expectedErrorMessage, rejections.get(0).errors().get(0).message());
+        Assertions.assertEquals(3, rejections.get(1).line());
+        Assertions.assertEquals("Malformed JSON", rejections.get(1).errors().get(0).message());
+
+        Mockito.verify(repository, Mockito.times(1))
+                .createAll(Mockito.argThat(categories -> categories.size() == 2
+                        && "Series".equals(categories.get(1).getName())));
+    }
+
+    @Test
+    public void givenAChunkThatFails_whenCallsImportCategories_shouldCreateItsLinesOneByOne() {
+        final var expectedErrorMessage = "Duplicate entry";
+
+        final var lines = List.of(
+                ImportCategoryLine.with(1, CreateCategoryCommand.with("Movies", null, true)),
+                ImportCategoryLine.with(2, CreateCategoryCommand.with("Series", null, true)));
+
+        Mockito.when(repository.createAll(Mockito.any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+        Mockito.when(repository.create(Mockito.any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg())
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var rejections = new ArrayList<ImportCategoryRejection>();
+        final var output = useCase.execute(ImportCategoriesCommand.with(lines.iterator(), rejections::add));
+
+        Assertions.assertEquals(1, output.imported());
+        Assertions.assertEquals(1, output.rejected());
+        Assertions.assertEquals(2, rejections.get(0).line());
+        Assertions.assertEquals(expectedErrorMessage, rejections.get(0).errors().get(0).message());
+
+        Mockito.verify(repository, Mockito.times(2)).create(Mockito.any());
+    }
+}
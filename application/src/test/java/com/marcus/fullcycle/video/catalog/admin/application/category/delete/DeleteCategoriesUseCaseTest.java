@@ -0,0 +1,60 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.delete;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultDeleteCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryRepository repository;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(repository);
+    }
+
+    @Test
+    public void givenValidIds_whenCallDeleteCategories_shouldDeleteThemAtOnce() {
+        final var movies = Category.newCategory("Movies", null, true).getId();
+        final var series = Category.newCategory("Series", null, true).getId();
+        final var expectedIds = List.of(movies, series, CategoryId.from("123"));
+
+        Assertions.assertDoesNotThrow(
+                () -> useCase.execute(List.of(movies.getValue(), series.getValue(), "123")));
+
+        Mockito.verify(repository, Mockito.times(1)).deleteAllById(Mockito.eq(expectedIds));
+        Mockito.verify(repository, Mockito.never()).deleteById(Mockito.any());
+    }
+
+    @Test
+    public void givenNoIds_whenCallDeleteCategories_shouldNotCallTheRepository() {
+        useCase.execute(List.of());
+
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    public void givenValidIds_whenRepositoryThrowsError_shouldReturnException() {
+        final var expectedId = Category.newCategory("Movies", null, true).getId();
+
+        Mockito.doThrow(new IllegalStateException("Repository error"))
+                .when(repository).deleteAllById(Mockito.any());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(List.of(expectedId.getValue())));
+    }
+}
@@ -0,0 +1,51 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.export;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryRepository repository;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(repository);
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallsExportCategories_shouldHandEachOneToTheOutput() {
+        final var categories = List.of(
+                Category.newCategory("Movies", null, true),
+                Category.newCategory("Series", null, false));
+        final var expectedOutputs = categories.stream().map(CategoryListOutput::from).toList();
+
+        Mockito.doAnswer(invocation -> {
+            final Consumer<Category> action = invocation.getArgument(0);
+            categories.forEach(action);
+            return null;
+        }).when(repository).forEach(Mockito.any());
+
+        final var actualOutputs = new ArrayList<CategoryListOutput>();
+        useCase.execute(actualOutputs::add);
+
+        Assertions.assertEquals(expectedOutputs, actualOutputs);
+    }
+}
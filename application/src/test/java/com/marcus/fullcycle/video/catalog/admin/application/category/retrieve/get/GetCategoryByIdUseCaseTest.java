@@ -1,5 +1,6 @@
 package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.get;
 
+import com.marcus.fullcycle.video.catalog.admin.application.UnitOfWork;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
@@ -14,6 +15,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @ExtendWith(MockitoExtension.class)
 public class GetCategoryByIdUseCaseTest {
@@ -23,9 +25,14 @@ public class GetCategoryByIdUseCaseTest {
     @Mock
     private CategoryRepository repository;
 
+    @Mock
+    private UnitOfWork unitOfWork;
+
     @BeforeEach
     void cleanUp() {
         Mockito.reset(repository);
+        Mockito.lenient().when(unitOfWork.executeReadOnly(Mockito.any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
     }
 
     @Test
@@ -41,6 +48,7 @@ public class GetCategoryByIdUseCaseTest {
 
         final var actualCategory = useCase.execute(expectedId.getValue());
 
+        Mockito.verify(unitOfWork, Mockito.times(1)).executeReadOnly(Mockito.any());
         Mockito.verify(repository, Mockito.times(1)).findById(Mockito.eq(expectedId));
 
         Assertions.assertEquals(expectedId, actualCategory.id());
@@ -1,6 +1,8 @@
 package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list;
 
+import com.marcus.fullcycle.video.catalog.admin.application.UnitOfWork;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryListProjection;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
 import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
@@ -15,6 +17,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @ExtendWith(MockitoExtension.class)
 public class ListCategoriesUseCaseTest {
@@ -24,9 +27,14 @@ public class ListCategoriesUseCaseTest {
     @Mock
     private CategoryRepository repository;
 
+    @Mock
+    private UnitOfWork unitOfWork;
+
     @BeforeEach
     void cleanUp() {
         Mockito.reset(repository);
+        Mockito.lenient().when(unitOfWork.executeReadOnly(Mockito.any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
     }
 
     @Test
@@ -49,10 +57,11 @@ public class ListCategoriesUseCaseTest {
         final var expectedItemCount = 2;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        Mockito.when(repository.findAll(Mockito.eq(query))).thenReturn(expectedPagination);
+        givenRepositoryFinds(query, expectedPagination);
 
         final var actualResult = useCase.execute(query);
 
+        Mockito.verify(unitOfWork, Mockito.times(1)).executeReadOnly(Mockito.any());
         Assertions.assertEquals(expectedItemCount, actualResult.items().size());
         Assertions.assertEquals(expectedResult, actualResult);
         Assertions.assertEquals(expectedPage, actualResult.page());
@@ -78,7 +87,7 @@ public class ListCategoriesUseCaseTest {
         final var expectedItemCount = 0;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        Mockito.when(repository.findAll(Mockito.eq(query))).thenReturn(expectedPagination);
+        givenRepositoryFinds(query, expectedPagination);
 
         final var actualResult = useCase.execute(query);
 
@@ -89,6 +98,27 @@ public class ListCategoriesUseCaseTest {
         Assertions.assertEquals(categories.size(), actualResult.total());
     }
 
+    @Test
+    public void givenAQueryWithoutTotal_whenCallListCategories_thenShouldReturnHasNext() {
+        final var categories = List.of(Category.newCategory("Movies", null, true));
+
+        final var expectedPage = 3;
+        final var expectedPerPage = 1;
+
+        final var query = new CategorySearchQuery(expectedPage, expectedPerPage, "", "name", "asc").withoutTotal();
+
+        final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, Pagination.UNKNOWN_TOTAL,
+                categories, null, true);
+
+        givenRepositoryFinds(query, expectedPagination);
+
+        final var actualResult = useCase.execute(query);
+
+        Assertions.assertEquals(expectedPagination.map(CategoryListOutput::from), actualResult);
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertTrue(actualResult.hasNext());
+    }
+
     @Test
     public void givenAValidQuery_repositoryThrowsError_thenReturnException() {
         final var expectedPage = 0;
@@ -101,10 +131,25 @@ public class ListCategoriesUseCaseTest {
         final var query = new CategorySearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort,
                 expectedDirection);
 
-        Mockito.when(repository.findAll(Mockito.eq(query))).thenThrow(new IllegalStateException(expectedErrorMessage));
+        Mockito.when(repository.findAll(Mockito.eq(query), Mockito.any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var exception = Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(query));
 
         Assertions.assertEquals(expectedErrorMessage, exception.getMessage());
     }
+
+    private void givenRepositoryFinds(final CategorySearchQuery query, final Pagination<Category> categories) {
+        Mockito.when(repository.<CategoryListOutput>findAll(Mockito.eq(query), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    final CategoryListProjection<CategoryListOutput> projection = invocation.getArgument(1);
+                    return categories.map(category -> projection.project(
+                            category.getId(),
+                            category.getName(),
+                            category.getDescription(),
+                            category.isActive(),
+                            category.getCreatedAt(),
+                            category.getDeletedAt()));
+                });
+    }
 }
@@ -0,0 +1,62 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.suggest;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultSuggestCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryRepository repository;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(repository);
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsSuggestCategories_thenShouldReturnSuggestions() {
+        final var suggestions = List.of(
+                new CategorySuggestion(CategoryId.unique(), "Movies"),
+                new CategorySuggestion(CategoryId.unique(), "Movies for kids"));
+
+        Mockito.when(repository.suggest("mov", 5)).thenReturn(suggestions);
+
+        final var actualResult = useCase.execute(SuggestCategoriesCommand.with(" mov ", 5));
+
+        Assertions.assertEquals(2, actualResult.size());
+        Assertions.assertEquals(suggestions.get(0).id(), actualResult.get(0).id());
+        Assertions.assertEquals("Movies for kids", actualResult.get(1).name());
+    }
+
+    @Test
+    public void givenALimitAboveTheMaximum_whenCallsSuggestCategories_thenShouldCapIt() {
+        Mockito.when(repository.suggest("mov", DefaultSuggestCategoriesUseCase.MAX_LIMIT)).thenReturn(List.of());
+
+        useCase.execute(SuggestCategoriesCommand.with("mov", 1000));
+
+        Mockito.verify(repository, Mockito.times(1)).suggest("mov", DefaultSuggestCategoriesUseCase.MAX_LIMIT);
+    }
+
+    @Test
+    public void givenABlankPrefix_whenCallsSuggestCategories_thenShouldReturnNothing() {
+        final var actualResult = useCase.execute(SuggestCategoriesCommand.with(" ", 5));
+
+        Assertions.assertTrue(actualResult.isEmpty());
+        Mockito.verify(repository, Mockito.never()).suggest(Mockito.any(), Mockito.anyInt());
+    }
+}
@@ -0,0 +1,115 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.update;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.marcus.fullcycle.video.catalog.admin.application.UnitOfWork;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryField;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
+
+@ExtendWith(MockitoExtension.class)
+public class PatchCategoryUseCaseTest {
+    @InjectMocks
+    private DefaultPatchCategoryUseCase useCase;
+
+    @Mock
+    private CategoryRepository repository;
+
+    @Mock
+    private UnitOfWork unitOfWork;
+
+    @BeforeEach
+    void beforeEach() {
+        Mockito.reset(repository);
+        Mockito.lenient().when(unitOfWork.execute(Mockito.any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    @Test
+    public void givenOnlyTheActiveFlag_whenCallsPatchCategory_shouldOnlyPatchIt() {
+        final var id = CategoryId.unique();
+        final var command = PatchCategoryCommand.with(id.getValue()).withActive(false);
+
+        Mockito.when(repository.patch(Mockito.any())).thenReturn(true);
+
+        final var output = useCase.execute(command).get();
+
+        Assertions.assertEquals(id.getValue(), output.id());
+        Mockito.verify(unitOfWork, Mockito.times(1)).execute(Mockito.any());
+        Mockito.verify(repository, Mockito.times(1))
+                .patch(Mockito.argThat(patch -> Objects.equals(id, patch.id())
+                        && Objects.equals(Set.of(CategoryField.ACTIVE), patch.fields())
+                        && !patch.active()));
+        Mockito.verify(repository, Mockito.never()).findById(Mockito.any());
+    }
+
+    @Test
+    public void givenANameAndANullDescription_whenCallsPatchCategory_shouldPatchBoth() {
+        final var id = CategoryId.unique();
+        final var expectedName = "Movies";
+        final var command = PatchCategoryCommand.with(id.getValue())
+                .withName(expectedName)
+                .withDescription(null);
+
+        Mockito.when(repository.patch(Mockito.any())).thenReturn(true);
+
+        Assertions.assertTrue(useCase.execute(command).isRight());
+
+        Mockito.verify(repository, Mockito.times(1))
+                .patch(Mockito.argThat(patch -> Objects.equals(expectedName, patch.name())
+                        && patch.has(CategoryField.DESCRIPTION)
+                        && patch.description() == null
+                        && !patch.has(CategoryField.ACTIVE)));
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsPatchCategory_shouldReturnAnError() {
+        final var expectedErrorMessage = "`name` should not be null";
+        final var command = PatchCategoryCommand.with(CategoryId.unique().getValue()).withName(null);
+
+        final var notification = useCase.execute(command).getLeft();
+
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Mockito.verify(repository, Mockito.never()).patch(Mockito.any());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsPatchCategory_shouldThrowNotFound() {
+        final var id = CategoryId.unique();
+        final var expectedErrorMessage = "Category with ID %s was not found".formatted(id.getValue());
+        final var command = PatchCategoryCommand.with(id.getValue()).withName("Movies");
+
+        Mockito.when(repository.patch(Mockito.any())).thenReturn(false);
+
+        final var exception = Assertions.assertThrows(DomainException.class, () -> useCase.execute(command));
+
+        Assertions.assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAValidCommand_whenRepositoryThrowsException_shouldReturnAnError() {
+        final var expectedErrorMessage = "Repository error";
+        final var command = PatchCategoryCommand.with(CategoryId.unique().getValue()).withName("Movies");
+
+        Mockito.when(repository.patch(Mockito.any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var notification = useCase.execute(command).getLeft();
+
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+    }
+}
@@ -2,6 +2,8 @@ package com.marcus.fullcycle.video.catalog.admin.application.category.update;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,10 +15,13 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.marcus.fullcycle.video.catalog.admin.application.UnitOfWork;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.ConflictException;
 import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateCategoryUseCaseTest {
@@ -26,9 +31,21 @@ public class UpdateCategoryUseCaseTest {
     @Mock
     private CategoryRepository repository;
 
+    @Mock
+    private UnitOfWork unitOfWork;
+
+    private boolean rolledBack;
+
     @BeforeEach
     void beforeEach() {
         Mockito.reset(repository);
+        rolledBack = false;
+        Mockito.lenient().when(unitOfWork.execute(Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    final var result = invocation.<Supplier<Object>>getArgument(0).get();
+                    rolledBack = invocation.<Predicate<Object>>getArgument(1).test(result);
+                    return result;
+                });
     }
 
     @Test
@@ -57,6 +74,8 @@ public class UpdateCategoryUseCaseTest {
         Assertions.assertNotNull(output);
         Assertions.assertNotNull(output.id());
 
+        Mockito.verify(unitOfWork, Mockito.times(1)).execute(Mockito.any(), Mockito.any());
+        Assertions.assertFalse(rolledBack);
         Mockito.verify(repository, Mockito.times(1)).findById(Mockito.eq(id));
         Mockito.verify(repository, Mockito.times(1))
                 .update(Mockito.argThat(updatedCategory -> {
@@ -152,7 +171,7 @@ public class UpdateCategoryUseCaseTest {
         final var expectedErrorMessage = "Repository error";
         final var expectedErrorCount = 1;
 
-        final var category = Category.newCategory(expectedName, expectedDescription, expectedIsActive);
+        final var category = Category.newCategory("Movie", null, expectedIsActive);
         final var id = category.getId();
 
         final var command = UpdateCategoryCommand.with(
@@ -171,6 +190,7 @@ public class UpdateCategoryUseCaseTest {
 
         Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Assertions.assertTrue(rolledBack);
 
         Mockito.verify(repository, Mockito.times(1))
                 .update(Mockito.argThat(updatedCategory -> {
@@ -187,6 +207,45 @@ public class UpdateCategoryUseCaseTest {
                 }));
     }
 
+    @Test
+    public void givenACommandWithTheCurrentValues_whenCallUpdateCategory_shouldNotWriteIt() {
+        final var category = Category.newCategory("Movies", "Most watched category", true);
+        final var id = category.getId();
+
+        final var command = UpdateCategoryCommand.with(id.getValue(), "Movies", "Most watched category", true);
+
+        Mockito.when(repository.findById(Mockito.eq(id)))
+                .thenReturn(Optional.of(category.clone()));
+
+        final var output = useCase.execute(command).get();
+
+        Assertions.assertEquals(id, output.id());
+        Mockito.verify(repository, Mockito.times(0)).update(Mockito.any());
+    }
+
+    @Test
+    public void givenAConcurrentlyUpdatedCategory_whenCallUpdateCategory_shouldThrowConflictException() {
+        final var expectedErrorMessage = "Category was changed by someone else";
+
+        final var category = Category.newCategory("Movie", null, true);
+        final var id = category.getId();
+
+        final var command = UpdateCategoryCommand.with(id.getValue(), "Movies", null, true);
+
+        Mockito.when(repository.findById(Mockito.eq(id)))
+                .thenReturn(Optional.of(category.clone()));
+
+        Mockito.when(repository.update(Mockito.any()))
+                .thenThrow(ConflictException.with(new Error(expectedErrorMessage)));
+
+        final var exception = Assertions.assertThrows(
+                ConflictException.class,
+                () -> useCase.execute(command));
+
+        Assertions.assertEquals(expectedErrorMessage, exception.getMessage());
+        Mockito.verify(repository, Mockito.times(1)).update(Mockito.any());
+    }
+
     @Test
     public void givenACommandWithInvalidId_whenCallUpdateCategory_shouldReturnNotFoundException() {
         final var expectedName = "Movies";
@@ -1,7 +1,10 @@
 package com.marcus.fullcycle.video.catalog.admin.domain.category;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 import com.marcus.fullcycle.video.catalog.admin.domain.AggregateRoot;
 import com.marcus.fullcycle.video.catalog.admin.domain.utils.InstantUtils;
@@ -14,6 +17,10 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    // Incremented by every update, see CategoryRepository#update
+    private long version;
+    // Replaced rather than modified, so clones never share changes
+    private Set<CategoryField> changedFields = Set.of();
 
     private Category(
             final CategoryId id,
@@ -22,7 +29,8 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt) {
+            final Instant deletedAt,
+            final long version) {
         super(id);
         this.name = name != null ? name.trim() : null;
         this.description = description;
@@ -30,13 +38,14 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
         this.createdAt = Objects.requireNonNull(createdAt, "`createdAt` should not be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "`updatedAt` should not be null");
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static Category newCategory(final String name, final String description, final boolean isActive) {
         final var id = CategoryId.unique();
         final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
-        return new Category(id, name, description, isActive, now, now, deletedAt);
+        return new Category(id, name, description, isActive, now, now, deletedAt, 0);
     }
 
     public CategoryId getId() {
@@ -67,27 +76,54 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * The fields actually changed since this category was created or read;
+     * setting a field to the value it already holds isn't a change. A
+     * repository only needs to write these.
+     */
+    public Set<CategoryField> getChangedFields() {
+        return changedFields;
+    }
+
+    public boolean hasChanges() {
+        return !changedFields.isEmpty();
+    }
+
     @Override
     public void validate(final ValidationHandler handler) {
         new CategoryValidator(this, handler).validate();
     }
 
     public Category deactivate() {
+        if (!active)
+            return this;
+
         if (getDeletedAt() == null)
             deletedAt = InstantUtils.now();
 
         active = false;
-        updatedAt = InstantUtils.now();
+        changed(CategoryField.ACTIVE);
         return this;
     }
 
     public Category activate() {
+        if (active)
+            return this;
+
         deletedAt = null;
         active = true;
-        updatedAt = InstantUtils.now();
+        changed(CategoryField.ACTIVE);
         return this;
     }
 
+    /**
+     * Only the fields whose value differs are changed, so an update with the
+     * current values leaves the category, {@code updatedAt} included, as is.
+     */
     public Category update(
             final String name,
             final String description,
@@ -97,16 +133,32 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
         else
             deactivate();
 
-        this.name = name;
-        this.description = description;
-        this.updatedAt = InstantUtils.now();
+        if (!Objects.equals(this.name, name)) {
+            this.name = name;
+            changed(CategoryField.NAME);
+        }
+
+        if (!Objects.equals(this.description, description)) {
+            this.description = description;
+            changed(CategoryField.DESCRIPTION);
+        }
         return this;
     }
 
+    private void changed(final CategoryField field) {
+        updatedAt = InstantUtils.now();
+        if (changedFields.contains(field))
+            return;
+
+        final var fields = EnumSet.of(field);
+        fields.addAll(changedFields);
+        changedFields = Collections.unmodifiableSet(fields);
+    }
+
     @Override
     public Category clone() {
         // All fields of this class are Immutable, so there's no need to copy anything
-        // manually.
+        // manually. The changed fields are never modified in place either.
         try {
             return (Category) super.clone();
         } catch (CloneNotSupportedException e) {
@@ -122,6 +174,18 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
             final Instant createdAt,
             final Instant updatedAt,
             final Instant deletedAt) {
-        return new Category(id, name, description, active, createdAt, updatedAt, deletedAt);
+        return with(id, name, description, active, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(
+            final CategoryId id,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version) {
+        return new Category(id, name, description, active, createdAt, updatedAt, deletedAt, version);
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.marcus.fullcycle.video.catalog.admin.domain.category;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The fields of a {@link Category} that can be changed after it is created,
+ * as reported by {@link Category#getChangedFields()}.
+ */
+public enum CategoryField {
+    NAME,
+    DESCRIPTION,
+    /**
+     * Whether the category is active, along with when it was deactivated.
+     */
+    ACTIVE;
+
+    public static final Set<CategoryField> ALL = Collections.unmodifiableSet(EnumSet.allOf(CategoryField.class));
+}
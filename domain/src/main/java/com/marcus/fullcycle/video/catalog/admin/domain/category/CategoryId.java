@@ -1,40 +1,140 @@
 package com.marcus.fullcycle.video.catalog.admin.domain.category;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 import com.marcus.fullcycle.video.catalog.admin.domain.Identifier;
 
-public class CategoryId extends Identifier {
-    private final String value;
+/**
+ * Ids in the canonical UUID form are held as two {@code long}s, which makes
+ * hashing and comparing them cheap. One read from storage is only turned into
+ * a {@code String} the first time {@link #getValue()} is called; one parsed
+ * from a string keeps that string, so an id typed in upper case is given back
+ * as typed, while it still equals the lower case one. Any other string (e.g.
+ * an id typed by a client) is kept as is; it can't match a stored category.
+ * <p>
+ * UUIDs are ordered by their unsigned bits, as the BINARY(16) column that
+ * stores them sorts. Other ids, which can't be stored, come after them.
+ */
+public class CategoryId extends Identifier implements Comparable<CategoryId> {
+    private static final int UUID_LENGTH = 36;
 
-    private CategoryId(String value) {
+    // The default of `categories.id-strategy` too, so ids made before the configuration is applied match it
+    private static volatile CategoryIdStrategy strategy = CategoryIdStrategy.TIME_ORDERED;
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    private final boolean uuid;
+    // Computed lazily for UUIDs; a racy write is harmless as every thread computes the same string
+    private String value;
+
+    private CategoryId(final long mostSignificantBits, final long leastSignificantBits, final String value) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.uuid = true;
+        this.value = value;
+    }
+
+    private CategoryId(final String value) {
         Objects.requireNonNull(value);
+        this.mostSignificantBits = 0;
+        this.leastSignificantBits = 0;
+        this.uuid = false;
         this.value = value;
     }
 
     public static CategoryId unique() {
-        return CategoryId.from(UUID.randomUUID());
+        return CategoryId.from(strategy.next());
+    }
+
+    /**
+     * Sets how {@link #unique()}, and so {@link Category#newCategory}, generates
+     * ids from now on. Meant to be called once at startup; tests that change it
+     * set {@link CategoryIdStrategy#TIME_ORDERED}, the default, back.
+     */
+    public static void useStrategy(final CategoryIdStrategy strategy) {
+        CategoryId.strategy = Objects.requireNonNull(strategy);
     }
 
     public static CategoryId from(final String anId) {
-        return new CategoryId(anId);
+        Objects.requireNonNull(anId);
+        if (!isCanonicalUuid(anId))
+            return new CategoryId(anId);
+
+        return new CategoryId(
+                parseHex(anId, 0, 8) << 32 | parseHex(anId, 9, 13) << 16 | parseHex(anId, 14, 18),
+                parseHex(anId, 19, 23) << 48 | parseHex(anId, 24, 36),
+                anId);
     }
 
     public static CategoryId from(final UUID anId) {
-        return new CategoryId(anId.toString().toLowerCase());
+        return from(anId.getMostSignificantBits(), anId.getLeastSignificantBits());
+    }
+
+    /**
+     * The UUID id made of these bits, e.g. as read from storage, without
+     * creating a {@link UUID} or a {@code String} for it.
+     */
+    public static CategoryId from(final long mostSignificantBits, final long leastSignificantBits) {
+        return new CategoryId(mostSignificantBits, leastSignificantBits, null);
     }
 
     public String getValue() {
-        return value;
+        var current = value;
+        if (current == null) {
+            current = new UUID(mostSignificantBits, leastSignificantBits).toString();
+            value = current;
+        }
+        return current;
+    }
+
+    /**
+     * The id as a UUID, or empty when it isn't in the canonical UUID form.
+     */
+    public Optional<UUID> toUuid() {
+        return uuid ? Optional.of(new UUID(mostSignificantBits, leastSignificantBits)) : Optional.empty();
+    }
+
+    // The accessors below aren't named as bean getters, so that the id is still
+    // serialized as {"value": ...} in JSON
+
+    /**
+     * Whether the id is in the canonical UUID form, and so has its
+     * {@link #mostSignificantBits() bits}.
+     */
+    public boolean hasUuidForm() {
+        return uuid;
+    }
+
+    /**
+     * The high 64 bits of the UUID, or 0 when the id isn't one.
+     */
+    public long mostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    /**
+     * The low 64 bits of the UUID, or 0 when the id isn't one.
+     */
+    public long leastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    @Override
+    public int compareTo(final CategoryId other) {
+        if (uuid != other.uuid)
+            return uuid ? -1 : 1;
+        if (!uuid)
+            return value.compareTo(other.value);
+
+        final var result = Long.compareUnsigned(mostSignificantBits, other.mostSignificantBits);
+        return result != 0 ? result : Long.compareUnsigned(leastSignificantBits, other.leastSignificantBits);
     }
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + ((value == null) ? 0 : value.hashCode());
-        return result;
+        return uuid ? Long.hashCode(mostSignificantBits ^ leastSignificantBits) : value.hashCode();
     }
 
     @Override
@@ -46,12 +146,44 @@ public class CategoryId extends Identifier {
         if (getClass() != obj.getClass())
             return false;
         CategoryId other = (CategoryId) obj;
-        if (value == null) {
-            if (other.value != null)
-                return false;
-        } else if (!value.equals(other.value))
+        if (uuid != other.uuid)
             return false;
+        if (uuid)
+            return mostSignificantBits == other.mostSignificantBits
+                    && leastSignificantBits == other.leastSignificantBits;
+        return value.equals(other.value);
+    }
+
+    private static boolean isCanonicalUuid(final String text) {
+        if (text.length() != UUID_LENGTH)
+            return false;
+
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final var c = text.charAt(i);
+            final var valid = i == 8 || i == 13 || i == 18 || i == 23
+                    ? c == '-'
+                    : hexValue(c) >= 0;
+            if (!valid)
+                return false;
+        }
         return true;
     }
 
+    private static long parseHex(final String text, final int start, final int end) {
+        long result = 0;
+        for (int i = start; i < end; i++)
+            result = result << 4 | hexValue(text.charAt(i));
+        return result;
+    }
+
+    // Unlike Character.digit, rejects non-ASCII digits
+    private static int hexValue(final char c) {
+        if (c >= '0' && c <= '9')
+            return c - '0';
+        if (c >= 'a' && c <= 'f')
+            return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F')
+            return c - 'A' + 10;
+        return -1;
+    }
 }
@@ -0,0 +1,45 @@
+package com.marcus.fullcycle.video.catalog.admin.domain.category;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
+import com.marcus.fullcycle.video.catalog.admin.domain.utils.UuidUtils;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+
+/**
+ * How {@link CategoryId#unique()} generates new ids.
+ */
+public enum CategoryIdStrategy {
+    /**
+     * Random UUIDv4. Inserts land anywhere in the primary key index.
+     */
+    RANDOM("random", UUID::randomUUID),
+
+    /**
+     * Time-ordered UUIDv7, see {@link UuidUtils#timeOrdered()}. Inserts are
+     * appended at the end of the primary key index.
+     */
+    TIME_ORDERED("time-ordered", UuidUtils::timeOrdered);
+
+    private final String value;
+    private final Supplier<UUID> generator;
+
+    CategoryIdStrategy(final String value, final Supplier<UUID> generator) {
+        this.value = value;
+        this.generator = generator;
+    }
+
+    public static CategoryIdStrategy of(final String value) {
+        return Arrays.stream(values())
+                .filter(strategy -> strategy.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error(
+                        "`%s` is not a valid id strategy".formatted(value))));
+    }
+
+    UUID next() {
+        return generator.get();
+    }
+}
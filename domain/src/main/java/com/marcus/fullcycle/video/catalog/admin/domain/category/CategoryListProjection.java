@@ -0,0 +1,18 @@
+package com.marcus.fullcycle.video.catalog.admin.domain.category;
+
+import java.time.Instant;
+
+/**
+ * Builds a listing item straight from the columns of a category row, without
+ * going through {@link Category}.
+ */
+@FunctionalInterface
+public interface CategoryListProjection<T> {
+    T project(
+            CategoryId id,
+            String name,
+            String description,
+            boolean active,
+            Instant createdAt,
+            Instant deletedAt);
+}
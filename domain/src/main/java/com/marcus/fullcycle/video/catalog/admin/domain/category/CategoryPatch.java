@@ -0,0 +1,73 @@
+package com.marcus.fullcycle.video.catalog.admin.domain.category;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.utils.InstantUtils;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.ValidationHandler;
+
+/**
+ * New values for some of the fields of a category, written over its row
+ * without reading it first, see {@link CategoryRepository#patch}. Only the
+ * values of {@link #fields()} are meant to be written; the others are ignored.
+ */
+public record CategoryPatch(
+        CategoryId id,
+        Set<CategoryField> fields,
+        String name,
+        String description,
+        boolean active,
+        Instant updatedAt) {
+    public CategoryPatch {
+        Objects.requireNonNull(id, "`id` should not be null");
+        Objects.requireNonNull(updatedAt, "`updatedAt` should not be null");
+        fields = fields.isEmpty()
+                ? Set.of()
+                : Collections.unmodifiableSet(EnumSet.copyOf(fields));
+    }
+
+    /**
+     * A patch of no field yet, stamped with the current instant.
+     */
+    public static CategoryPatch of(final CategoryId id) {
+        return new CategoryPatch(id, Set.of(), null, null, false, InstantUtils.now());
+    }
+
+    public CategoryPatch withName(final String name) {
+        return new CategoryPatch(id, with(CategoryField.NAME), name, description, active, updatedAt);
+    }
+
+    public CategoryPatch withDescription(final String description) {
+        return new CategoryPatch(id, with(CategoryField.DESCRIPTION), name, description, active, updatedAt);
+    }
+
+    /**
+     * Activating clears when the category was deactivated; deactivating keeps
+     * it if the category already was inactive, like {@link Category#deactivate()}.
+     */
+    public CategoryPatch withActive(final boolean active) {
+        return new CategoryPatch(id, with(CategoryField.ACTIVE), name, description, active, updatedAt);
+    }
+
+    public boolean has(final CategoryField field) {
+        return fields.contains(field);
+    }
+
+    public boolean isEmpty() {
+        return fields.isEmpty();
+    }
+
+    public void validate(final ValidationHandler handler) {
+        if (has(CategoryField.NAME))
+            new CategoryValidator(name, handler).validate();
+    }
+
+    private Set<CategoryField> with(final CategoryField field) {
+        final var all = EnumSet.of(field);
+        all.addAll(fields);
+        return all;
+    }
+}
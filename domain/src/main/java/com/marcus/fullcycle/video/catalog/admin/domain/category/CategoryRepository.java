@@ -1,17 +1,84 @@
 package com.marcus.fullcycle.video.catalog.admin.domain.category;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.ConflictException;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
 import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
 
 public interface CategoryRepository {
     Category create(Category category);
 
+    /**
+     * Saves the category only if it is still at {@link Category#getVersion()}
+     * in the repository, and returns it at the next version. Only the
+     * {@linkplain Category#getChangedFields() changed fields} are written, or
+     * all of them when the category has no changes tracked.
+     *
+     * @throws ConflictException when the category was changed or deleted since
+     *                           it was read
+     */
     Category update(Category category);
 
+    /**
+     * Writes the fields of {@code patch} over the category in a single
+     * statement, without reading it first, and moves it to the next version.
+     * Unlike {@link #update(Category)} the version isn't checked: the last
+     * write of each field wins. An empty patch only checks that the category
+     * exists.
+     *
+     * @return whether the category exists
+     */
+    boolean patch(CategoryPatch patch);
+
+    /**
+     * Creates every category in a single transaction: either all of them are
+     * created or none is.
+     *
+     * @throws DomainException when one of them is invalid
+     */
+    List<Category> createAll(List<Category> categories);
+
+    /**
+     * Same as {@link #update(Category)} for every category, in a single
+     * transaction: either all of them are updated or none is.
+     *
+     * @throws DomainException   when one of them is invalid
+     * @throws ConflictException when one of them was changed or deleted since it
+     *                           was read
+     */
+    List<Category> updateAll(List<Category> categories);
+
     Optional<Category> findById(CategoryId id);
 
     Pagination<Category> findAll(CategorySearchQuery query);
 
+    /**
+     * Same page as {@link #findAll(CategorySearchQuery)}, with every item built
+     * by {@code projection} from the listed columns only. Meant for read-only
+     * listings, which don't need whole categories.
+     */
+    <T> Pagination<T> findAll(CategorySearchQuery query, CategoryListProjection<T> projection);
+
+    /**
+     * Hands every category to {@code action}, in id order, as they are read, so
+     * that the whole table is never held in memory at once.
+     */
+    void forEach(Consumer<Category> action);
+
+    /**
+     * Up to {@code limit} categories whose name starts with {@code prefix},
+     * ignoring case and accents, in name order.
+     */
+    List<CategorySuggestion> suggest(String prefix, int limit);
+
     void deleteById(CategoryId id);
+
+    /**
+     * Deletes every category in {@code ids}; ids that don't exist are ignored.
+     */
+    void deleteAllById(Collection<CategoryId> ids);
 }
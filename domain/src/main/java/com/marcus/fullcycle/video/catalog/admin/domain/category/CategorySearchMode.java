@@ -0,0 +1,31 @@
+package com.marcus.fullcycle.video.catalog.admin.domain.category;
+
+import java.util.Arrays;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+
+/**
+ * How the terms of a {@link CategorySearchQuery} are matched. Both modes ignore
+ * case and accents.
+ */
+public enum CategorySearchMode {
+    /**
+     * The terms may appear anywhere in the name or the description. Scans every
+     * row.
+     */
+    SUBSTRING,
+
+    /**
+     * The name starts with the terms. Served by an index on the name.
+     */
+    PREFIX;
+
+    public static CategorySearchMode of(final String value) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error(
+                        "`%s` is not a valid search mode".formatted(value))));
+    }
+}
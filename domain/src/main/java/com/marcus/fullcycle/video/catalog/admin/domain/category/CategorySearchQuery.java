@@ -1,9 +1,78 @@
 package com.marcus.fullcycle.video.catalog.admin.domain.category;
 
+import java.util.Set;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+
+/**
+ * Describes a page of categories to be listed.
+ * <p>
+ * When {@code cursor} is null the page is located by its {@code page} number
+ * (offset pagination). Otherwise the page starts right after the row encoded
+ * in the cursor (keyset pagination); an empty cursor asks for the first page
+ * and every result carries the cursor of the following page in
+ * {@link com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination#next()}.
+ * <p>
+ * When {@code withTotal} is false the matching rows are not counted and the
+ * result only tells whether there is a next page.
+ * <p>
+ * {@code searchMode} tells how {@code terms} are matched, see
+ * {@link CategorySearchMode}.
+ * <p>
+ * {@code sort} must be one of {@link #SORTABLE_FIELDS}, each of them backed by
+ * an index so that no listing has to sort the whole table. {@code active}
+ * keeps only active or inactive categories when not null.
+ */
 public record CategorySearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction) {
+        String direction,
+        String cursor,
+        boolean withTotal,
+        CategorySearchMode searchMode,
+        Boolean active) {
+    public static final Set<String> SORTABLE_FIELDS = Set.of("name", "createdAt");
+
+    public CategorySearchQuery {
+        if (!SORTABLE_FIELDS.contains(sort))
+            throw DomainException.with(new Error("`%s` is not a sortable field".formatted(sort)));
+
+        if (!"asc".equalsIgnoreCase(direction) && !"desc".equalsIgnoreCase(direction))
+            throw DomainException.with(new Error("`%s` is not a valid direction".formatted(direction)));
+
+        if (searchMode == null)
+            searchMode = CategorySearchMode.SUBSTRING;
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction) {
+        this(page, perPage, terms, sort, direction, null, true, CategorySearchMode.SUBSTRING, null);
+    }
+
+    public CategorySearchQuery withCursor(final String cursor) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, cursor, withTotal, searchMode, active);
+    }
+
+    public CategorySearchQuery withoutTotal() {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, cursor, false, searchMode, active);
+    }
+
+    public CategorySearchQuery withSearchMode(final CategorySearchMode searchMode) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, cursor, withTotal, searchMode, active);
+    }
+
+    public CategorySearchQuery withActive(final Boolean active) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, cursor, withTotal, searchMode, active);
+    }
+
+    public boolean isCursorPaged() {
+        return cursor != null;
+    }
 }
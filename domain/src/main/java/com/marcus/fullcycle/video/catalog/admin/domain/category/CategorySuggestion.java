@@ -0,0 +1,7 @@
+package com.marcus.fullcycle.video.catalog.admin.domain.category;
+
+/**
+ * A category offered while the user is still typing its name.
+ */
+public record CategorySuggestion(CategoryId id, String name) {
+}
@@ -8,11 +8,19 @@ public class CategoryValidator extends Validator {
     private static final int NAME_MIN_LENGTH = 3;
     private static final int NAME_MAX_LENGTH = 255;
 
-    private final Category category;
+    private final String name;
 
     public CategoryValidator(Category category, ValidationHandler handler) {
+        this(category.getName(), handler);
+    }
+
+    /**
+     * Validates a name on its own, for writes that don't hold a whole
+     * {@link Category}, see {@link CategoryPatch}.
+     */
+    public CategoryValidator(String name, ValidationHandler handler) {
         super(handler);
-        this.category = category;
+        this.name = name;
     }
 
     @Override
@@ -21,7 +29,6 @@ public class CategoryValidator extends Validator {
     }
 
     private void checkNameConstraints() {
-        String name = category.getName();
         if (name == null)
             validationHandler().append(new Error("`name` should not be null"));
         else if (name.isEmpty())
@@ -0,0 +1,26 @@
+package com.marcus.fullcycle.video.catalog.admin.domain.exceptions;
+
+import java.util.List;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+
+/**
+ * Thrown when a write is based on a state that is no longer current, e.g. an
+ * update of a category that somebody else changed in the meantime.
+ */
+public class ConflictException extends NoStacktraceException {
+    private final List<Error> errors;
+
+    private ConflictException(final String message, final List<Error> errors) {
+        super(message);
+        this.errors = errors;
+    }
+
+    public static ConflictException with(final Error error) {
+        return new ConflictException(error.message(), List.of(error));
+    }
+
+    public List<Error> getErrors() {
+        return errors;
+    }
+}
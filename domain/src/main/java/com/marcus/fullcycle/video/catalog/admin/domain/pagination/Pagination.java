@@ -3,13 +3,34 @@ package com.marcus.fullcycle.video.catalog.admin.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * A page of items. {@code next} is the opaque cursor of the following page
+ * when the page was fetched with keyset pagination, and null otherwise or when
+ * there are no more items.
+ */
 public record Pagination<T>(
         int page,
         int perPage,
         long total,
-        List<T> items) {
+        List<T> items,
+        String next,
+        boolean hasNext) {
+    /**
+     * Value of {@code total} when the page was fetched without counting the
+     * matching rows.
+     */
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int page, final int perPage, final long total, final List<T> items) {
+        this(page, perPage, total, items, null, (long) (page + 1) * perPage < total);
+    }
+
+    public Pagination(final int page, final int perPage, final long total, final List<T> items, final String next) {
+        this(page, perPage, total, items, next, next != null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> newItems = items.stream().map(mapper).toList();
-        return new Pagination<>(page, perPage, total, newItems);
+        return new Pagination<>(page, perPage, total, newItems, next, hasNext);
     }
 }
@@ -0,0 +1,46 @@
+package com.marcus.fullcycle.video.catalog.admin.domain.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates UUIDv7s (RFC 9562): 48 bits of Unix milliseconds, a 12-bit counter
+ * and 62 random bits. Ids generated by this process are strictly increasing,
+ * so they are appended at the end of an index instead of landing on random
+ * pages.
+ * <p>
+ * The counter starts at a random value in the lower half of its range on each
+ * new millisecond and is incremented for ids within the same millisecond; when
+ * it runs out it carries into the timestamp, which stays ahead of the clock
+ * until the clock catches up. Random bits come from
+ * {@link ThreadLocalRandom}, so threads only meet on a single compare-and-set.
+ */
+public final class UuidUtils {
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7L << COUNTER_BITS;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    // Unix milliseconds followed by the counter of the last id generated
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    private UuidUtils() {
+    }
+
+    public static UUID timeOrdered() {
+        final var random = ThreadLocalRandom.current();
+
+        long previous;
+        long next;
+        do {
+            previous = LAST_TIMESTAMP_AND_COUNTER.get();
+            final var fresh = System.currentTimeMillis() << COUNTER_BITS | random.nextInt(1 << (COUNTER_BITS - 1));
+            next = Math.max(fresh, previous + 1);
+        } while (!LAST_TIMESTAMP_AND_COUNTER.compareAndSet(previous, next));
+
+        final var mostSignificantBits = (next >>> COUNTER_BITS) << 16 | VERSION_7 | (next & COUNTER_MASK);
+        final var leastSignificantBits = VARIANT_RFC | random.nextLong() >>> 2;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
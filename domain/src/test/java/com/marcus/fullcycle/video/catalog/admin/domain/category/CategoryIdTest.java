@@ -0,0 +1,94 @@
+package com.marcus.fullcycle.video.catalog.admin.domain.category;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CategoryIdTest {
+    @Test
+    public void givenAUuidString_whenCallsFrom_thenShouldKeepItsValueAndUuid() {
+        final var expectedUuid = UUID.randomUUID();
+
+        final var actualId = CategoryId.from(expectedUuid.toString());
+
+        Assertions.assertEquals(expectedUuid.toString(), actualId.getValue());
+        Assertions.assertEquals(expectedUuid, actualId.toUuid().orElseThrow());
+        Assertions.assertEquals(CategoryId.from(expectedUuid), actualId);
+        Assertions.assertEquals(CategoryId.from(expectedUuid).hashCode(), actualId.hashCode());
+    }
+
+    @Test
+    public void givenAnUpperCaseUuidString_whenCallsFrom_thenShouldKeepItsTextAndEqualTheLowerCaseOne() {
+        final var expectedUuid = UUID.randomUUID();
+        final var expectedValue = expectedUuid.toString().toUpperCase();
+
+        final var actualId = CategoryId.from(expectedValue);
+
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertEquals(expectedUuid, actualId.toUuid().orElseThrow());
+        Assertions.assertEquals(CategoryId.from(expectedUuid), actualId);
+        Assertions.assertEquals(CategoryId.from(expectedUuid).hashCode(), actualId.hashCode());
+    }
+
+    @Test
+    public void givenUuidBits_whenCallsFrom_thenShouldFormatThemInLowerCase() {
+        final var expectedUuid = UUID.randomUUID();
+
+        final var actualId = CategoryId.from(
+                expectedUuid.getMostSignificantBits(), expectedUuid.getLeastSignificantBits());
+
+        Assertions.assertEquals(expectedUuid.toString(), actualId.getValue());
+        Assertions.assertEquals(CategoryId.from(expectedUuid.toString()), actualId);
+    }
+
+    @Test
+    public void givenUuidIds_whenCompared_thenShouldOrderThemByTheirUnsignedBits() {
+        final var low = CategoryId.from("7fffffff-ffff-ffff-ffff-ffffffffffff");
+        final var high = CategoryId.from("80000000-0000-0000-0000-000000000000");
+
+        Assertions.assertTrue(low.compareTo(high) < 0);
+        Assertions.assertTrue(high.compareTo(CategoryId.from("123")) < 0);
+        Assertions.assertEquals(0, low.compareTo(CategoryId.from("7FFFFFFF-FFFF-FFFF-FFFF-FFFFFFFFFFFF")));
+    }
+
+    @Test
+    public void givenANonUuidString_whenCallsFrom_thenShouldKeepItAsIs() {
+        final var expectedValue = "123";
+
+        final var actualId = CategoryId.from(expectedValue);
+
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertTrue(actualId.toUuid().isEmpty());
+        Assertions.assertEquals(CategoryId.from(expectedValue), actualId);
+        Assertions.assertNotEquals(CategoryId.unique(), actualId);
+    }
+
+    @Test
+    public void givenAStringShapedLikeAUuidButNotHex_whenCallsFrom_thenShouldKeepItAsIs() {
+        final var expectedValue = "zzzzzzzz-zzzz-zzzz-zzzz-zzzzzzzzzzzz";
+
+        final var actualId = CategoryId.from(expectedValue);
+
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertTrue(actualId.toUuid().isEmpty());
+    }
+
+    @Test
+    public void givenTheDefaultStrategy_whenCallsUnique_thenShouldGenerateUuidV7() {
+        final var actualId = CategoryId.unique();
+
+        Assertions.assertEquals(7, actualId.toUuid().orElseThrow().version());
+    }
+
+    @Test
+    public void givenTheRandomStrategy_whenCallsUnique_thenShouldGenerateUuidV4() {
+        try {
+            CategoryId.useStrategy(CategoryIdStrategy.of("random"));
+
+            Assertions.assertEquals(4, CategoryId.unique().toUuid().orElseThrow().version());
+        } finally {
+            CategoryId.useStrategy(CategoryIdStrategy.TIME_ORDERED);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.marcus.fullcycle.video.catalog.admin.domain.category;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.handler.ThrowsValidationHandler;
+
+public class CategoryPatchTest {
+    @Test
+    public void givenAnId_whenCallsOf_shouldCreateAnEmptyPatch() {
+        final var expectedId = CategoryId.unique();
+
+        final var actualPatch = CategoryPatch.of(expectedId);
+
+        Assertions.assertEquals(expectedId, actualPatch.id());
+        Assertions.assertTrue(actualPatch.isEmpty());
+        Assertions.assertNotNull(actualPatch.updatedAt());
+    }
+
+    @Test
+    public void givenSomeFields_whenCallsWith_shouldOnlyHoldThoseFields() {
+        final var actualPatch = CategoryPatch.of(CategoryId.unique())
+                .withName("Movies")
+                .withActive(false);
+
+        Assertions.assertEquals(Set.of(CategoryField.NAME, CategoryField.ACTIVE), actualPatch.fields());
+        Assertions.assertTrue(actualPatch.has(CategoryField.NAME));
+        Assertions.assertFalse(actualPatch.has(CategoryField.DESCRIPTION));
+        Assertions.assertEquals("Movies", actualPatch.name());
+        Assertions.assertFalse(actualPatch.active());
+    }
+
+    @Test
+    public void givenANullName_whenCallsValidate_shouldReceiveError() {
+        final var patch = CategoryPatch.of(CategoryId.unique()).withName(null);
+
+        final var exception = Assertions.assertThrows(DomainException.class,
+                () -> patch.validate(new ThrowsValidationHandler()));
+
+        Assertions.assertEquals("`name` should not be null", exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenNoName_whenCallsValidate_shouldNotCheckIt() {
+        final var patch = CategoryPatch.of(CategoryId.unique()).withDescription(null);
+
+        Assertions.assertDoesNotThrow(() -> patch.validate(new ThrowsValidationHandler()));
+    }
+}
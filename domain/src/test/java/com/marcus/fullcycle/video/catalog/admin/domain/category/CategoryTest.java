@@ -1,5 +1,7 @@
 package com.marcus.fullcycle.video.catalog.admin.domain.category;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +25,7 @@ public class CategoryTest {
         Assertions.assertNotNull(actualCategory.getCreatedAt());
         Assertions.assertNotNull(actualCategory.getUpdatedAt());
         Assertions.assertNull(actualCategory.getDeletedAt());
+        Assertions.assertEquals(0, actualCategory.getVersion());
     }
 
     @Test
@@ -249,4 +252,44 @@ public class CategoryTest {
         Assertions.assertTrue(updatedCategory.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNull(updatedCategory.getDeletedAt());
     }
+
+    @Test
+    public void givenAValidCategory_whenCallUpdateWithItsCurrentValues_thenShouldNotChangeIt() {
+        final var category = Category.newCategory("Movies", "Most viewed category", false);
+        final var updatedAt = category.getUpdatedAt();
+        final var deletedAt = category.getDeletedAt();
+
+        final var updatedCategory = category.update("Movies", "Most viewed category", false);
+
+        Assertions.assertFalse(updatedCategory.hasChanges());
+        Assertions.assertTrue(updatedCategory.getChangedFields().isEmpty());
+        Assertions.assertEquals(updatedAt, updatedCategory.getUpdatedAt());
+        Assertions.assertEquals(deletedAt, updatedCategory.getDeletedAt());
+    }
+
+    @Test
+    public void givenAValidCategory_whenCallUpdateChangingSomeFields_thenShouldReportOnlyThose() {
+        final var category = Category.newCategory("Movies", "Most viewed category", true);
+        final var updatedAt = category.getUpdatedAt();
+
+        final var updatedCategory = category.update("Movies", "Least viewed category", false);
+
+        Assertions.assertEquals(
+                Set.of(CategoryField.DESCRIPTION, CategoryField.ACTIVE),
+                updatedCategory.getChangedFields());
+        Assertions.assertTrue(updatedCategory.getUpdatedAt().isAfter(updatedAt));
+    }
+
+    @Test
+    public void givenACategoryWithChanges_whenCloned_thenFurtherChangesShouldNotReachTheClone() {
+        final var category = Category.newCategory("Movies", null, true).update("Series", null, true);
+
+        final var clone = category.clone();
+        category.update("Series", "Most viewed category", true);
+
+        Assertions.assertEquals(Set.of(CategoryField.NAME), clone.getChangedFields());
+        Assertions.assertEquals(
+                Set.of(CategoryField.NAME, CategoryField.DESCRIPTION),
+                category.getChangedFields());
+    }
 }
@@ -0,0 +1,53 @@
+package com.marcus.fullcycle.video.catalog.admin.domain.utils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class UuidUtilsTest {
+    @Test
+    public void givenATimeOrderedUuid_whenInspected_thenShouldBeVersion7WithTheCurrentTime() {
+        final var before = System.currentTimeMillis();
+
+        final var actualUuid = UuidUtils.timeOrdered();
+
+        Assertions.assertEquals(7, actualUuid.version());
+        Assertions.assertEquals(2, actualUuid.variant());
+        Assertions.assertTrue(actualUuid.getMostSignificantBits() >>> 16 >= before);
+    }
+
+    @Test
+    public void givenManyTimeOrderedUuids_whenGeneratedInSequence_thenShouldBeStrictlyIncreasing() {
+        var previous = UuidUtils.timeOrdered();
+        for (int i = 0; i < 100_000; i++) {
+            final var next = UuidUtils.timeOrdered();
+            Assertions.assertTrue(next.toString().compareTo(previous.toString()) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    public void givenManyThreads_whenGeneratingTimeOrderedUuids_thenShouldNeverRepeatOne() throws InterruptedException {
+        final var generated = new ConcurrentLinkedQueue<UUID>();
+        final var threads = new ArrayList<Thread>();
+        for (int i = 0; i < 8; i++)
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10_000; j++)
+                    generated.add(UuidUtils.timeOrdered());
+            }));
+
+        threads.forEach(Thread::start);
+        for (final var thread : threads)
+            thread.join();
+
+        final List<UUID> ids = new ArrayList<>(generated);
+        Assertions.assertEquals(80_000, new HashSet<>(ids).size());
+        // Timestamp and counter alone are unique too, whatever the random bits
+        Assertions.assertEquals(80_000, ids.stream().map(UUID::getMostSignificantBits).distinct().count());
+    }
+}
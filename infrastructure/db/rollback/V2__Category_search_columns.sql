@@ -0,0 +1,6 @@
+-- Manual rollback of V2, see README.md. Roll back V3 first.
+DROP INDEX idx_categories_name_search ON categories;
+ALTER TABLE categories DROP COLUMN description_search;
+ALTER TABLE categories DROP COLUMN name_search;
+
+DELETE FROM flyway_schema_history WHERE version = '2';
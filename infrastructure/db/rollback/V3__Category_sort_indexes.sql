@@ -0,0 +1,6 @@
+-- Manual rollback of V3, see README.md. Roll back V4 first.
+DROP INDEX idx_categories_active_created_at ON categories;
+DROP INDEX idx_categories_created_at ON categories;
+DROP INDEX idx_categories_name ON categories;
+
+DELETE FROM flyway_schema_history WHERE version = '3';
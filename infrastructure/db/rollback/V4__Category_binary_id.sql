@@ -0,0 +1,20 @@
+-- Manual rollback of V4, see README.md. MySQL only: turns the 16-byte ids back into
+-- their 36-character text. Roll back V5 first.
+ALTER TABLE categories ADD COLUMN id_text VARCHAR(36) NULL;
+UPDATE categories SET id_text = BIN_TO_UUID(id);
+
+DROP INDEX idx_categories_active_created_at ON categories;
+DROP INDEX idx_categories_created_at ON categories;
+DROP INDEX idx_categories_name ON categories;
+
+ALTER TABLE categories DROP PRIMARY KEY;
+ALTER TABLE categories DROP COLUMN id;
+ALTER TABLE categories RENAME COLUMN id_text TO id;
+ALTER TABLE categories MODIFY id VARCHAR(36) NOT NULL;
+ALTER TABLE categories ADD PRIMARY KEY (id);
+
+CREATE INDEX idx_categories_name ON categories (name, id);
+CREATE INDEX idx_categories_created_at ON categories (created_at, id);
+CREATE INDEX idx_categories_active_created_at ON categories (active, created_at, id);
+
+DELETE FROM flyway_schema_history WHERE version = '4';
@@ -0,0 +1,4 @@
+-- Manual rollback of V5, see README.md. Run V5 first if rolling back both.
+ALTER TABLE categories DROP COLUMN version;
+
+DELETE FROM flyway_schema_history WHERE version = '5';
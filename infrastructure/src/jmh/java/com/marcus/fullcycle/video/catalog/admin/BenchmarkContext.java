@@ -0,0 +1,72 @@
+package com.marcus.fullcycle.video.catalog.admin;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaRepository;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.configuration.WebServerConfig;
+
+/**
+ * Boots the application without the web server for a benchmark. Uses the
+ * in-memory database of the `test` profile unless BENCHMARK_PROFILE points to
+ * another one, e.g. `development` to run against the MySQL of docker-compose.
+ */
+public final class BenchmarkContext implements AutoCloseable {
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(final ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * @param properties {@code key=value} pairs that override the profile's
+     *                   configuration
+     */
+    public static BenchmarkContext start(final String... properties) {
+        final var profile = System.getenv().getOrDefault("BENCHMARK_PROFILE", "test");
+        final var args = Stream.concat(Stream.of("spring.jpa.show-sql=false"), Stream.of(properties))
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+
+        final var context = new SpringApplicationBuilder(WebServerConfig.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profile)
+                .run(args);
+        return new BenchmarkContext(context);
+    }
+
+    public <T> T bean(final Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Replaces the content of the categories table with {@code rows} generated
+     * categories.
+     */
+    public void seedCategories(final int rows) {
+        final var repository = bean(CategoryJpaRepository.class);
+        repository.deleteAllInBatch();
+
+        for (int start = 0; start < rows; start += SEED_BATCH_SIZE) {
+            final var batch = IntStream.range(start, Math.min(rows, start + SEED_BATCH_SIZE))
+                    .mapToObj(i -> Category.newCategory("Category " + i, "Description of category " + i, i % 10 != 0))
+                    .map(CategoryJpaEntity::from)
+                    .toList();
+            repository.saveAll(batch);
+        }
+    }
+
+    @Override
+    public void close() {
+        bean(CategoryJpaRepository.class).deleteAllInBatch();
+        context.close();
+    }
+}
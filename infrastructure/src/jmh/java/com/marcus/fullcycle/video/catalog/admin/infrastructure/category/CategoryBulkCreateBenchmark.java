@@ -0,0 +1,81 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.marcus.fullcycle.video.catalog.admin.BenchmarkContext;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoryCommand;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoryUseCase;
+
+/**
+ * Time to create {@code items} categories one at a time through
+ * {@link CreateCategoryUseCase}, as the catalog migrations did, against a
+ * single call of {@link CreateCategoriesUseCase}, which writes them in JDBC
+ * batches of {@code batchSize}. The table is emptied before each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CategoryBulkCreateBenchmark {
+    @Param({ "1000" })
+    private int items;
+
+    @Param({ "100", "500" })
+    private int batchSize;
+
+    private BenchmarkContext context;
+    private CreateCategoryUseCase createCategoryUseCase;
+    private CreateCategoriesUseCase createCategoriesUseCase;
+    private List<CreateCategoryCommand> commands;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("categories.bulk.batch-size=" + batchSize);
+        createCategoryUseCase = context.bean(CreateCategoryUseCase.class);
+        createCategoriesUseCase = context.bean(CreateCategoriesUseCase.class);
+        commands = IntStream.range(0, items)
+                .mapToObj(i -> CreateCategoryCommand.with("Category " + i, "Description of category " + i, true))
+                .toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyTable() {
+        context.seedCategories(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void oneAtATime(final Blackhole blackhole) {
+        for (final var command : commands)
+            blackhole.consume(createCategoryUseCase.execute(command));
+    }
+
+    @Benchmark
+    public Object bulk() {
+        return createCategoriesUseCase.execute(commands);
+    }
+}
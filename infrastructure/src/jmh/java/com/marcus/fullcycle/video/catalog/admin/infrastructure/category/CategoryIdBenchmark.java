@@ -0,0 +1,80 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+
+/**
+ * Cost of parsing a {@link CategoryId} from its text and of using it as a map
+ * key, compared with using the text itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CategoryIdBenchmark {
+    private static final int KEYS = 1024;
+
+    @Param({ "100000" })
+    private int entries;
+
+    private final Map<CategoryId, Boolean> byId = new HashMap<>();
+    private final Map<String, Boolean> byText = new HashMap<>();
+    private final CategoryId[] idKeys = new CategoryId[KEYS];
+    private final String[] textKeys = new String[KEYS];
+    private final UUID[] uuids = new UUID[KEYS];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < entries; i++) {
+            final var text = UUID.randomUUID().toString();
+            byId.put(CategoryId.from(text), Boolean.TRUE);
+            byText.put(text, Boolean.TRUE);
+
+            if (i < KEYS) {
+                uuids[i] = UUID.fromString(text);
+                idKeys[i] = CategoryId.from(text);
+                textKeys[i] = text;
+            }
+        }
+    }
+
+    @Benchmark
+    public CategoryId parse() {
+        return CategoryId.from(textKeys[next++ & (KEYS - 1)]);
+    }
+
+    @Benchmark
+    public String format() {
+        return CategoryId.from(uuids[next++ & (KEYS - 1)]).getValue();
+    }
+
+    @Benchmark
+    public Boolean lookupById() {
+        return byId.get(idKeys[next++ & (KEYS - 1)]);
+    }
+
+    @Benchmark
+    public Boolean lookupByText() {
+        return byText.get(textKeys[next++ & (KEYS - 1)]);
+    }
+}
@@ -0,0 +1,46 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryIdStrategy;
+
+/**
+ * Throughput of {@link CategoryId#unique()} with each id strategy, with as
+ * many threads as the machine has cores so that contention shows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(Threads.MAX)
+public class CategoryIdGenerationBenchmark {
+    @Param({ "random", "time-ordered" })
+    private String strategy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CategoryId.useStrategy(CategoryIdStrategy.of(strategy));
+    }
+
+    @Benchmark
+    public CategoryId unique() {
+        return CategoryId.unique();
+    }
+}
@@ -0,0 +1,135 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.marcus.fullcycle.video.catalog.admin.BenchmarkContext;
+
+/**
+ * Primary key lookups on a table keyed by the 36-character text of a UUID and
+ * on one keyed by its 16 bytes, both with a secondary index that repeats the
+ * key like the indexes of `categories` do. On MySQL the data and index sizes
+ * of each table are logged at the end of the trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(8)
+public class CategoryIdStorageBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CategoryIdStorageBenchmark.class);
+    private static final int SEED_BATCH_SIZE = 1_000;
+    private static final int LOOKUP_IDS = 1024;
+
+    @Param({ "text", "binary" })
+    private String storage;
+
+    @Param({ "100000" })
+    private int rows;
+
+    private BenchmarkContext context;
+    private JdbcTemplate jdbcTemplate;
+    private String table;
+    private Object[] lookupIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        jdbcTemplate = context.bean(JdbcTemplate.class);
+        table = "benchmark_ids_" + storage;
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("CREATE TABLE " + table + " ("
+                + "id " + ("binary".equals(storage) ? "BINARY(16)" : "VARCHAR(36)") + " NOT NULL PRIMARY KEY, "
+                + "created_at DATETIME(6) NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX idx_" + table + "_created_at ON " + table + " (created_at, id)");
+
+        final var ids = new ArrayList<Object>(rows);
+        for (int start = 0; start < rows; start += SEED_BATCH_SIZE) {
+            final var batch = new ArrayList<Object[]>(SEED_BATCH_SIZE);
+            for (int i = start; i < Math.min(rows, start + SEED_BATCH_SIZE); i++) {
+                final var id = key(UUID.randomUUID());
+                ids.add(id);
+                batch.add(new Object[] { id, Timestamp.from(Instant.now()) });
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO " + table + " (id, created_at) VALUES (?, ?)", batch);
+        }
+
+        lookupIds = new Object[LOOKUP_IDS];
+        for (int i = 0; i < LOOKUP_IDS; i++)
+            lookupIds[i] = ids.get(i * (rows / LOOKUP_IDS));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        logSizes();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Lookups {
+        private int next;
+
+        Object nextId(final Object[] ids) {
+            return ids[next++ & (LOOKUP_IDS - 1)];
+        }
+    }
+
+    @Benchmark
+    public List<Timestamp> findById(final Lookups lookups) {
+        return jdbcTemplate.queryForList("SELECT created_at FROM " + table + " WHERE id = ?", Timestamp.class,
+                lookups.nextId(lookupIds));
+    }
+
+    private Object key(final UUID uuid) {
+        if (!"binary".equals(storage))
+            return uuid.toString();
+
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private void logSizes() {
+        final var product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product))
+            return;
+
+        jdbcTemplate.execute("ANALYZE TABLE " + table);
+        jdbcTemplate.query("SELECT data_length, index_length FROM information_schema.tables "
+                + "WHERE table_schema = DATABASE() AND table_name = ?",
+                (RowCallbackHandler) row -> LOGGER.info("{}: data {} bytes, secondary indexes {} bytes",
+                        table, row.getLong("data_length"), row.getLong("index_length")),
+                table);
+    }
+}
@@ -0,0 +1,63 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.marcus.fullcycle.video.catalog.admin.BenchmarkContext;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+
+/**
+ * Insert throughput through {@link CategoryRepository#create} with random and
+ * time-ordered ids, on top of an already populated table so that page splits
+ * in the primary key show. Meant to be run against MySQL
+ * (BENCHMARK_PROFILE=development).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(8)
+public class CategoryInsertBenchmark {
+    @Param({ "random", "time-ordered" })
+    private String idStrategy;
+
+    @Param({ "100000" })
+    private int rows;
+
+    private BenchmarkContext context;
+    private CategoryRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("categories.id-strategy=" + idStrategy);
+        context.seedCategories(rows);
+        repository = context.bean(CategoryRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Category create() {
+        return repository.create(Category.newCategory("Benchmark", "Inserted by the benchmark", true));
+    }
+}
@@ -0,0 +1,68 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.marcus.fullcycle.video.catalog.admin.BenchmarkContext;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
+
+/**
+ * Latency of a list request that needs `total`, with the page and count
+ * queries sent one after the other or at the same time. Sample mode reports
+ * the p50 and p99 of each variant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(8)
+public class CategoryListBenchmark {
+    @Param({ "false", "true" })
+    private boolean parallelCount;
+
+    @Param({ "100000" })
+    private int rows;
+
+    private BenchmarkContext context;
+    private CategoryRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("categories.pagination.parallel-count.enabled=" + parallelCount);
+        context.seedCategories(rows);
+        repository = context.bean(CategoryRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Pagination<?> searchWithTotal() {
+        return repository.findAll(new CategorySearchQuery(10, 20, "category 9", "name", "asc"));
+    }
+
+    @Benchmark
+    public Pagination<?> listWithTotal() {
+        return repository.findAll(new CategorySearchQuery(10, 20, "", "createdAt", "desc"));
+    }
+}
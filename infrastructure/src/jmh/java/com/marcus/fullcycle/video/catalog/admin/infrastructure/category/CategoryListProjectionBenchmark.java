@@ -0,0 +1,70 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.marcus.fullcycle.video.catalog.admin.BenchmarkContext;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
+
+/**
+ * A listing page built from entities mapped twice versus straight from the
+ * selected columns. Allocations are what this is about, so run it with the
+ * GC profiler and compare `gc.alloc.rate.norm` (bytes per page):
+ * `gradle jmh -Pbenchmark=CategoryListProjectionBenchmark -Pprofilers=gc`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CategoryListProjectionBenchmark {
+    @Param({ "20", "100" })
+    private int perPage;
+
+    @Param({ "10000" })
+    private int rows;
+
+    private BenchmarkContext context;
+    private CategoryRepository repository;
+    private CategorySearchQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        context.seedCategories(rows);
+        repository = context.bean(CategoryRepository.class);
+        query = new CategorySearchQuery(10, perPage, "", "createdAt", "desc").withoutTotal();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> entities() {
+        return repository.findAll(query).map(CategoryListOutput::from);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> projection() {
+        return repository.findAll(query, CategoryListOutput::new);
+    }
+}
@@ -0,0 +1,78 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.marcus.fullcycle.video.catalog.admin.BenchmarkContext;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
+
+/**
+ * The same reads on the JPA and the JDBC repository engines. Run it with the
+ * GC profiler to also compare allocations per call:
+ * `gradle jmh -Pbenchmark=CategoryRepositoryEngineBenchmark -Pprofilers=gc`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CategoryRepositoryEngineBenchmark {
+    @Param({ "jpa", "jdbc" })
+    private String engine;
+
+    @Param({ "10000" })
+    private int rows;
+
+    private BenchmarkContext context;
+    private CategoryRepository repository;
+    private CategoryId id;
+    private CategorySearchQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("categories.repository.engine=" + engine);
+        context.seedCategories(rows);
+        repository = context.bean(CategoryRepository.class);
+        query = new CategorySearchQuery(10, 20, "", "createdAt", "desc");
+        id = repository.findAll(query.withoutTotal()).items().get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Category findById() {
+        return repository.findById(id).orElseThrow();
+    }
+
+    @Benchmark
+    public Pagination<Category> page() {
+        return repository.findAll(query);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> projectedPage() {
+        return repository.findAll(query, CategoryListOutput::new);
+    }
+}
@@ -0,0 +1,87 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+
+/**
+ * Latency of a typeahead lookup in {@link CategoryNameSuggestions}, for
+ * prefixes of one to four characters typed against a catalog of random names.
+ * Sample mode reports the p50 and p99.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(8)
+public class CategorySuggestBenchmark {
+    private static final int PREFIX_COUNT = 1024;
+
+    @Param({ "10000", "1000000" })
+    private int rows;
+
+    @Param({ "10" })
+    private int limit;
+
+    private CategoryNameSuggestions suggestions;
+    private String[] prefixes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var random = new Random(42);
+        final var names = new String[rows];
+
+        suggestions = new CategoryNameSuggestions();
+        for (int i = 0; i < rows; i++) {
+            names[i] = randomName(random);
+            suggestions.put(UUID.randomUUID().toString(), names[i], null);
+        }
+
+        prefixes = new String[PREFIX_COUNT];
+        for (int i = 0; i < PREFIX_COUNT; i++) {
+            final var name = names[random.nextInt(rows)];
+            prefixes[i] = name.substring(0, 1 + random.nextInt(Math.min(4, name.length())));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Keystrokes {
+        private int next;
+
+        String nextPrefix(final String[] prefixes) {
+            return prefixes[next++ & (PREFIX_COUNT - 1)];
+        }
+    }
+
+    @Benchmark
+    public List<CategorySuggestion> suggest(final Keystrokes keystrokes) {
+        return suggestions.suggest(keystrokes.nextPrefix(prefixes), limit);
+    }
+
+    private static String randomName(final Random random) {
+        final var length = 4 + random.nextInt(16);
+        final var name = new StringBuilder(length);
+        for (int i = 0; i < length; i++)
+            name.append((char) ('a' + random.nextInt(26)));
+        return name.toString();
+    }
+}
@@ -1,15 +1,24 @@
 package com.marcus.fullcycle.video.catalog.admin.infrastructure.api;
 
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
 import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.models.PatchCategoryRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -28,8 +37,25 @@ public interface CategoryApi {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(value = "bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create many categories at once", description = "All or nothing, in a single transaction. "
+            + "When any category is invalid none is created, and the response holds one notification per "
+            + "category, in the order of the request, with no errors for the valid ones.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Created successfully"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
     @GetMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "List all categories paginated")
+    @Operation(summary = "List all categories paginated", description = "Pages are located by `page` unless a "
+            + "`cursor` is sent. An empty `cursor` starts keyset pagination and every page then returns the "
+            + "`next` cursor to be sent back, which keeps deep pages as cheap as the first one. "
+            + "`withTotal=false` skips counting the matching rows; `hasNext` still tells whether there are more. "
+            + "`searchMode=prefix` only matches names starting with `search`, which is served by an index; "
+            + "`substring` (default) matches anywhere in the name or description. Both ignore case and accents. "
+            + "`sort` accepts `name` or `createdAt`; `active` keeps only active or inactive categories.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
@@ -40,5 +66,57 @@ public interface CategoryApi {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction);
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "withTotal", required = false, defaultValue = "true") final boolean withTotal,
+            @RequestParam(name = "searchMode", required = false, defaultValue = "substring") final String searchMode,
+            @RequestParam(name = "active", required = false) final Boolean active);
+
+    @PatchMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Change some fields of a category", description = "Only the properties in the body are "
+            + "written, in a single UPDATE of their columns without reading the category first; a `description` "
+            + "sent as null is cleared. The version isn't checked, so the last write of each field wins.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Patched successfully"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown, or the category "
+                    + "was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> patchCategory(@PathVariable("id") String id, @RequestBody PatchCategoryRequest input);
+
+    @PostMapping(value = "import", consumes = { MediaType.APPLICATION_NDJSON_VALUE, "text/csv" },
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import categories from NDJSON or CSV", description = "Reads the body line by line and "
+            + "creates the valid lines in batches, never reading further than the database has written. Streams "
+            + "back one line per rejected input line, then a summary with the imported and rejected counts.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Imported; rejected lines are listed in the body"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> importCategories(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body);
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export every category as NDJSON", description = "Streams one JSON object per line, "
+            + "in the same shape as the items of the listing, in id order. Rows are written as they are read "
+            + "from the database, so the response can be as large as the table.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories();
+
+    @GetMapping(value = "suggest", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Suggest categories while typing", description = "Returns up to `limit` categories "
+            + "(at most 50) whose name starts with `prefix`, ignoring case and accents, in name order.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggested successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<?> suggestCategories(
+            @RequestParam(name = "prefix", required = false, defaultValue = "") final String prefix,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit);
 }
@@ -1,27 +1,73 @@
 package com.marcus.fullcycle.video.catalog.admin.infrastructure.api.controllers;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoriesUseCase;
 import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoryCommand;
 import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoryOutput;
 import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.ImportCategoriesCommand;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.ImportCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesCommand;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.update.PatchCategoryOutput;
+import com.marcus.fullcycle.video.catalog.admin.application.category.update.PatchCategoryUseCase;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchMode;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
 import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
 import com.marcus.fullcycle.video.catalog.admin.domain.validation.handler.Notification;
 import com.marcus.fullcycle.video.catalog.admin.infrastructure.api.CategoryApi;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.CategoryImportReader;
 import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.models.PatchCategoryRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RestController
 public class CategoryController implements CategoryApi {
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
+    private final ImportCategoriesUseCase importCategoriesUseCase;
+    private final PatchCategoryUseCase patchCategoryUseCase;
+    private final ListCategoriesUseCase listCategoriesUseCase;
+    private final SuggestCategoriesUseCase suggestCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final ObjectMapper mapper;
 
     public CategoryController(
-            final CreateCategoryUseCase createCategoryUseCase) {
+            final CreateCategoryUseCase createCategoryUseCase,
+            final CreateCategoriesUseCase createCategoriesUseCase,
+            final ImportCategoriesUseCase importCategoriesUseCase,
+            final PatchCategoryUseCase patchCategoryUseCase,
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final SuggestCategoriesUseCase suggestCategoriesUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final ObjectMapper mapper) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
+        this.importCategoriesUseCase = Objects.requireNonNull(importCategoriesUseCase);
+        this.patchCategoryUseCase = Objects.requireNonNull(patchCategoryUseCase);
+        this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.suggestCategoriesUseCase = Objects.requireNonNull(suggestCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.mapper = Objects.requireNonNull(mapper);
     }
 
     @Override
@@ -42,7 +88,87 @@ public class CategoryController implements CategoryApi {
     }
 
     @Override
-    public Pagination<?> listCategories(String search, int page, int perPage, String sort, String direction) {
-        return null;
+    public ResponseEntity<?> createCategories(final List<CreateCategoryRequest> input) {
+        final var commands = input.stream()
+                .map(request -> CreateCategoryCommand.with(
+                        request.name(),
+                        request.description(),
+                        request.active() != null ? request.active() : true))
+                .toList();
+
+        final Function<List<Notification>, ResponseEntity<?>> onError = notifications -> ResponseEntity
+                .unprocessableEntity().body(notifications);
+
+        final Function<List<CreateCategoryOutput>, ResponseEntity<?>> onSuccess = outputs -> ResponseEntity
+                .status(HttpStatus.CREATED).body(outputs);
+
+        return this.createCategoriesUseCase.execute(commands)
+                .fold(onError, onSuccess);
+    }
+
+    @Override
+    public ResponseEntity<?> patchCategory(final String id, final PatchCategoryRequest input) {
+        final Function<Notification, ResponseEntity<?>> onError = notification -> ResponseEntity.unprocessableEntity()
+                .body(notification);
+
+        final Function<PatchCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+
+        return this.patchCategoryUseCase.execute(input.toCommand(id))
+                .fold(onError, onSuccess);
+    }
+
+    @Override
+    public Pagination<?> listCategories(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final boolean withTotal,
+            final String searchMode,
+            final Boolean active) {
+        return listCategoriesUseCase.execute(new CategorySearchQuery(page, perPage, search, sort, direction,
+                cursor, withTotal, CategorySearchMode.of(searchMode), active));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> importCategories(final String contentType, final InputStream body) {
+        final var lines = MediaType.parseMediaType(contentType).isCompatibleWith(TEXT_CSV)
+                ? CategoryImportReader.csv(body)
+                : CategoryImportReader.ndjson(body, mapper);
+
+        final StreamingResponseBody report = outputStream -> {
+            final var buffered = new BufferedOutputStream(outputStream);
+            final var output = importCategoriesUseCase.execute(
+                    ImportCategoriesCommand.with(lines, rejection -> writeLine(buffered, rejection)));
+            writeLine(buffered, output);
+            buffered.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(report);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        final StreamingResponseBody body = outputStream -> {
+            final var buffered = new BufferedOutputStream(outputStream);
+            exportCategoriesUseCase.execute(category -> writeLine(buffered, category));
+            buffered.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private void writeLine(final OutputStream output, final Object value) {
+        try {
+            output.write(mapper.writeValueAsBytes(value));
+            output.write('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<?> suggestCategories(final String prefix, final int limit) {
+        return suggestCategoriesUseCase.execute(SuggestCategoriesCommand.with(prefix, limit));
     }
 }
@@ -1,9 +1,11 @@
 package com.marcus.fullcycle.video.catalog.admin.infrastructure.api.controllers;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.ConflictException;
 import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
 import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
 
@@ -16,9 +18,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = ConflictException.class)
+    public ResponseEntity<?> handleConflictException(final ConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiError.from(ex));
+    }
+
     record ApiError(String message, List<Error> errors) {
         static ApiError from(final DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
         }
+
+        static ApiError from(final ConflictException ex) {
+            return new ApiError(ex.getMessage(), ex.getErrors());
+        }
     }
 }
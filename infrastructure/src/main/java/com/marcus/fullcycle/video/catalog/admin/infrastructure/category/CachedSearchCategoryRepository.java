@@ -0,0 +1,228 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryListProjection;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchMode;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource.ReplicaRouting;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.SearchTermUtils;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Serves the pages of {@code findAll} from memory, keyed by their query with
+ * the search terms normalized the way they are matched, so "Ação" and "acao"
+ * share an entry. Listings keep only the listed columns and build the items
+ * of each caller with its own projection; whole categories are copied, as
+ * they can be changed.
+ * <p>
+ * Every write bumps a generation that is part of the key, which drops every
+ * cached page at once without looking at any of them: pages of older
+ * generations are never read again and are evicted as room is needed. The
+ * generation is bumped again once the write's transaction ends, so a page
+ * read in between is dropped too. Reads inside a transaction that may have
+ * written skip the cache, and so do, with {@code replicaEnabled}, reads sent
+ * to the replica or pinned to the primary, as {@link ReadThroughCategoryRepository}
+ * does. Writes of other instances are only seen once the pages expire,
+ * {@code ttl} after they were read.
+ * <p>
+ * The cache is bounded by an estimate of the bytes its pages hold,
+ * {@code maximumBytes}, rather than by their count, as a page of 50 long
+ * descriptions weighs far more than a page of 10 names. Publishes the metrics
+ * of the {@code categories.search} cache, like {@link ReadThroughCategoryRepository}.
+ */
+public final class CachedSearchCategoryRepository implements CategoryRepository {
+    // Rough sizes of the objects of an entry besides its strings, on a 64-bit JVM with compressed pointers
+    private static final int PAGE_OVERHEAD_BYTES = 256;
+    private static final int ITEM_OVERHEAD_BYTES = 160;
+
+    private final CategoryRepository delegate;
+    private final Cache<Key, Pagination<?>> pages;
+    private final AtomicLong generation = new AtomicLong();
+    private final boolean replicaEnabled;
+
+    public CachedSearchCategoryRepository(
+            final CategoryRepository delegate,
+            final long maximumBytes,
+            final Duration ttl,
+            final MeterRegistry registry,
+            final boolean replicaEnabled) {
+        if (maximumBytes < 1)
+            throw new IllegalArgumentException("`maximumBytes` must be at least 1");
+        if (ttl.isZero() || ttl.isNegative())
+            throw new IllegalArgumentException("`ttl` must be positive");
+
+        this.delegate = delegate;
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher(CachedSearchCategoryRepository::weigh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, pages, "categories.search");
+        this.replicaEnabled = replicaEnabled;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return written(() -> delegate.create(category));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return written(() -> delegate.update(category));
+    }
+
+    @Override
+    public boolean patch(final CategoryPatch patch) {
+        return written(() -> delegate.patch(patch));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return written(() -> delegate.createAll(categories));
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return written(() -> delegate.updateAll(categories));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        if (TransactionUtils.inWritableTransaction() || routed())
+            return delegate.findAll(query);
+
+        final var page = (Pagination<Category>) pages.get(key(query, false), key -> delegate.findAll(query));
+        return page.map(Category::clone);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Pagination<T> findAll(final CategorySearchQuery query, final CategoryListProjection<T> projection) {
+        if (TransactionUtils.inWritableTransaction() || routed())
+            return delegate.findAll(query, projection);
+
+        final var page = (Pagination<Row>) pages.get(key(query, true), key -> delegate.findAll(query, Row::new));
+        return page.map(row -> projection.project(
+                row.id(), row.name(), row.description(), row.active(), row.createdAt(), row.deletedAt()));
+    }
+
+    @Override
+    public void forEach(final Consumer<Category> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public List<CategorySuggestion> suggest(final String prefix, final int limit) {
+        return delegate.suggest(prefix, limit);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        written(() -> {
+            delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAllById(final Collection<CategoryId> ids) {
+        written(() -> {
+            delegate.deleteAllById(ids);
+            return null;
+        });
+    }
+
+    // Also bumps the generation when the write fails, as part of it may have been written
+    private <T> T written(final Supplier<T> write) {
+        try {
+            return write.get();
+        } finally {
+            generation.incrementAndGet();
+            if (TransactionSynchronizationManager.isSynchronizationActive())
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        generation.incrementAndGet();
+                    }
+                });
+        }
+    }
+
+    private boolean routed() {
+        return replicaEnabled && (ReplicaRouting.usesReplica() || ReplicaRouting.isPinnedToPrimary());
+    }
+
+    private Key key(final CategorySearchQuery query, final boolean listing) {
+        final var terms = query.terms();
+        final var normalized = terms == null || terms.isBlank()
+                // Without terms the search mode doesn't matter
+                ? new CategorySearchQuery(query.page(), query.perPage(), "", query.sort(), query.direction(),
+                        query.cursor(), query.withTotal(), CategorySearchMode.SUBSTRING, query.active())
+                : new CategorySearchQuery(query.page(), query.perPage(), SearchTermUtils.normalize(terms),
+                        query.sort(), query.direction(), query.cursor(), query.withTotal(), query.searchMode(),
+                        query.active());
+        return new Key(generation.get(), normalized, listing);
+    }
+
+    private static int weigh(final Key key, final Pagination<?> page) {
+        long bytes = PAGE_OVERHEAD_BYTES + stringBytes(key.query().terms()) + stringBytes(key.query().cursor())
+                + stringBytes(page.next());
+        for (final var item : page.items()) {
+            bytes += ITEM_OVERHEAD_BYTES;
+            if (item instanceof Row row)
+                bytes += stringBytes(row.name()) + stringBytes(row.description());
+            else if (item instanceof Category category)
+                bytes += stringBytes(category.getName()) + stringBytes(category.getDescription());
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    // Strings hold UTF-16 chars unless they are all Latin-1, so this is an upper bound
+    private static long stringBytes(final String value) {
+        return value == null ? 0 : 2L * value.length();
+    }
+
+    private record Key(long generation, CategorySearchQuery query, boolean listing) {
+    }
+
+    /**
+     * The listed columns of a category, as the listings select them.
+     */
+    private record Row(
+            CategoryId id,
+            String name,
+            String description,
+            boolean active,
+            Instant createdAt,
+            Instant deletedAt) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+
+/**
+ * Position of a row in a keyset paginated listing: the value of the sort
+ * column plus the id, which breaks ties between rows with the same sort key.
+ * Clients only ever see it as an opaque URL-safe token.
+ */
+public record CategoryCursor(String sort, String direction, String key, String id) {
+    private static final String SEPARATOR = "|";
+
+    public static CategoryCursor after(final Category category, final String sort, final String direction) {
+        return after(category.getId(), category.getName(), category.getCreatedAt(), sort, direction);
+    }
+
+    public static CategoryCursor after(
+            final CategoryId id,
+            final String name,
+            final Instant createdAt,
+            final String sort,
+            final String direction) {
+        final var key = switch (sort) {
+            case "name" -> name;
+            case "createdAt" -> createdAt.toString();
+            default -> throw unsupportedSort(sort);
+        };
+        return new CategoryCursor(sort, direction, key, id.getValue());
+    }
+
+    public static CategoryCursor decode(final String token, final String sort, final String direction) {
+        final String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, 4);
+        } catch (final IllegalArgumentException e) {
+            throw invalid();
+        }
+
+        if (parts.length != 4 || !parts[0].equals(sort) || !parts[1].equalsIgnoreCase(direction))
+            throw invalid();
+
+        return new CategoryCursor(parts[0], parts[1], parts[3], parts[2]);
+    }
+
+    public String encode() {
+        // The key goes last because it is the only part that may contain the separator
+        final var raw = String.join(SEPARATOR, sort, direction, id, key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isDescending() {
+        return "desc".equalsIgnoreCase(direction);
+    }
+
+    public Instant instantKey() {
+        try {
+            return Instant.parse(key);
+        } catch (final RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("`cursor` is invalid for the requested sort and direction"));
+    }
+
+    private static DomainException unsupportedSort(final String sort) {
+        return DomainException.with(new Error(
+                "Cursor pagination is not supported when sorting by `%s`".formatted(sort)));
+    }
+}
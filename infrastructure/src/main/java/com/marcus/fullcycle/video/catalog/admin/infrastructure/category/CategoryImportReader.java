@@ -0,0 +1,251 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoryCommand;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.ImportCategoryLine;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Parses an import body line by line, as the lines are asked for, so the body
+ * is never held in memory: only the current line is, and lines longer than
+ * {@link #MAX_LINE_LENGTH} characters are skipped and reported as malformed.
+ *
+ * <p>NDJSON lines are objects shaped like {@link CreateCategoryRequest}. CSV
+ * input starts with a header naming its columns, among {@code name},
+ * {@code description} and {@code is_active}, in any order; values may be
+ * quoted, but can't span lines. Blank lines are ignored in both formats.
+ */
+public final class CategoryImportReader implements Iterator<ImportCategoryLine> {
+    public static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final String NAME_COLUMN = "name";
+    private static final String DESCRIPTION_COLUMN = "description";
+    private static final String ACTIVE_COLUMN = "is_active";
+
+    private final Reader reader;
+    private final LineParser parser;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long lineNumber;
+    private boolean lineTooLong;
+    private ImportCategoryLine next;
+    private boolean finished;
+
+    private CategoryImportReader(final InputStream body, final LineParser parser) {
+        this.reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+        this.parser = parser;
+    }
+
+    public static CategoryImportReader ndjson(final InputStream body, final ObjectMapper mapper) {
+        return new CategoryImportReader(body, new NdjsonParser(mapper));
+    }
+
+    public static CategoryImportReader csv(final InputStream body) {
+        return new CategoryImportReader(body, new CsvParser());
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !finished) {
+            final var line = readLine();
+            if (line == null)
+                finished = true;
+            else if (lineTooLong)
+                next = ImportCategoryLine.malformed(lineNumber,
+                        "Line is longer than %d characters".formatted(MAX_LINE_LENGTH));
+            else if (!line.isBlank())
+                next = parser.parse(lineNumber, line);
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportCategoryLine next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        final var line = next;
+        next = null;
+        return line;
+    }
+
+    // Like BufferedReader#readLine, but stops buffering a line at MAX_LINE_LENGTH characters
+    private String readLine() {
+        final var line = new StringBuilder();
+        lineTooLong = false;
+        var read = false;
+
+        while (true) {
+            if (position == limit && !fill())
+                break;
+
+            read = true;
+            final var c = buffer[position++];
+            if (c == '\n')
+                break;
+
+            if (line.length() < MAX_LINE_LENGTH)
+                line.append(c);
+            else
+                lineTooLong = true;
+        }
+
+        if (!read)
+            return null;
+
+        lineNumber++;
+        final var length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r')
+            line.setLength(length - 1);
+        return line.toString();
+    }
+
+    private boolean fill() {
+        try {
+            final var count = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            limit = Math.max(count, 0);
+            return count > 0;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface LineParser {
+        ImportCategoryLine parse(long number, String line);
+    }
+
+    private record NdjsonParser(ObjectMapper mapper) implements LineParser {
+        @Override
+        public ImportCategoryLine parse(final long number, final String line) {
+            final CreateCategoryRequest request;
+            try {
+                request = mapper.readValue(line, CreateCategoryRequest.class);
+            } catch (final JsonProcessingException e) {
+                return ImportCategoryLine.malformed(number, "Malformed JSON: " + e.getOriginalMessage());
+            }
+
+            if (request == null)
+                return ImportCategoryLine.malformed(number, "Expected a JSON object");
+
+            return ImportCategoryLine.with(number, CreateCategoryCommand.with(
+                    request.name(),
+                    request.description(),
+                    request.active() != null ? request.active() : true));
+        }
+    }
+
+    private static final class CsvParser implements LineParser {
+        private Map<String, Integer> columns;
+        private long invalidHeaderLine;
+
+        @Override
+        public ImportCategoryLine parse(final long number, final String line) {
+            final var values = split(line);
+            if (values == null)
+                return ImportCategoryLine.malformed(number, "Unterminated quoted value");
+
+            if (invalidHeaderLine > 0)
+                return ImportCategoryLine.malformed(number,
+                        "Skipped as the header on line %d is invalid".formatted(invalidHeaderLine));
+
+            if (columns == null)
+                return readHeader(number, values);
+
+            if (values.size() != columns.size())
+                return ImportCategoryLine.malformed(number,
+                        "Expected %d values but got %d".formatted(columns.size(), values.size()));
+
+            final var active = valueOf(values, ACTIVE_COLUMN);
+            if (active != null && !active.equalsIgnoreCase("true") && !active.equalsIgnoreCase("false"))
+                return ImportCategoryLine.malformed(number, "`is_active` should be true or false");
+
+            return ImportCategoryLine.with(number, CreateCategoryCommand.with(
+                    valueOf(values, NAME_COLUMN),
+                    valueOf(values, DESCRIPTION_COLUMN),
+                    active == null || Boolean.parseBoolean(active)));
+        }
+
+        // The header isn't a category, so nothing is returned for it unless it is invalid
+        private ImportCategoryLine readHeader(final long number, final List<String> values) {
+            final var header = new HashMap<String, Integer>();
+            String error = null;
+            for (int i = 0; i < values.size() && error == null; i++) {
+                final var column = values.get(i).trim().toLowerCase(Locale.ROOT);
+                if (!List.of(NAME_COLUMN, DESCRIPTION_COLUMN, ACTIVE_COLUMN).contains(column))
+                    error = "Unknown column `%s`".formatted(column);
+                else if (header.put(column, i) != null)
+                    error = "Duplicate column `%s`".formatted(column);
+            }
+
+            if (error == null && !header.containsKey(NAME_COLUMN))
+                error = "The header should have a `name` column";
+
+            if (error != null) {
+                invalidHeaderLine = number;
+                return ImportCategoryLine.malformed(number, error);
+            }
+
+            columns = Map.copyOf(header);
+            return null;
+        }
+
+        private String valueOf(final List<String> values, final String column) {
+            final var index = columns.get(column);
+            if (index == null)
+                return null;
+
+            final var value = values.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        // RFC 4180 fields, within one line; null when a quote isn't closed
+        private static List<String> split(final String line) {
+            final var values = new ArrayList<String>();
+            final var value = new StringBuilder();
+            var quoted = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                final var c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"')
+                        value.append(c);
+                    else if (i + 1 < line.length() && line.charAt(i + 1) == '"')
+                        value.append(line.charAt(++i));
+                    else
+                        quoted = false;
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+
+            if (quoted)
+                return null;
+
+            values.add(value.toString());
+            return values;
+        }
+    }
+}
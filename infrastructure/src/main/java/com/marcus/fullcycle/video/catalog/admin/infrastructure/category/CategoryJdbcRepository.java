@@ -0,0 +1,406 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryField;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryListProjection;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchMode;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.ConflictException;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.handler.ThrowsValidationHandler;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJdbcBatchWriter;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJdbcMapping;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJdbcStreamReader;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.ParallelQueryExecutor;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.SearchTermUtils;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.TransactionUtils;
+
+/**
+ * Same contract and same rows as {@link CategoryMySqlRepository}, on plain
+ * JDBC: every query is hand-written SQL run as a prepared statement and
+ * mapped by hand, with no persistence context, merge or criteria building in
+ * between. Selected with {@code categories.repository.engine=jdbc}.
+ * <p>
+ * Every write runs in a transaction, joining the caller's if there is one:
+ * the pool hands out connections with auto-commit off, so a statement run
+ * outside of one would be rolled back when its connection is returned.
+ */
+@Service
+@ConditionalOnProperty(name = "categories.repository.engine", havingValue = "jdbc")
+public class CategoryJdbcRepository implements CategoryRepository {
+    // Keeps the IN list of a bulk delete well below the placeholder limits of the drivers
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private static final String LIKE = " LIKE ? ESCAPE '" + SearchTermUtils.LIKE_ESCAPE + "'";
+
+    private static final String SELECT_BY_ID = "SELECT " + CategoryJdbcMapping.COLUMNS
+            + " FROM categories WHERE id = ?";
+
+    private static final String SUGGEST = "SELECT id, name FROM categories WHERE name_search" + LIKE
+            + " ORDER BY name_search, id LIMIT ?";
+
+    private static final String DELETE_BY_ID = "DELETE FROM categories WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CategoryJdbcBatchWriter batchWriter;
+    private final CategoryJdbcStreamReader streamReader;
+    // Null unless `categories.pagination.parallel-count.enabled` is set
+    private final ParallelQueryExecutor parallelQueries;
+    private final CategoryMemoryIndexes memoryIndexes;
+
+    public CategoryJdbcRepository(
+            final JdbcTemplate jdbcTemplate,
+            final CategoryJdbcBatchWriter batchWriter,
+            final CategoryJdbcStreamReader streamReader,
+            final ObjectProvider<ParallelQueryExecutor> parallelQueries,
+            final CategoryMemoryIndexes memoryIndexes) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.batchWriter = Objects.requireNonNull(batchWriter);
+        this.streamReader = Objects.requireNonNull(streamReader);
+        this.parallelQueries = parallelQueries.getIfAvailable();
+        this.memoryIndexes = Objects.requireNonNull(memoryIndexes);
+    }
+
+    @Override
+    @Transactional
+    public Category create(final Category category) {
+        batchWriter.insertAll(List.of(category));
+        afterCommit(index -> put(index, category));
+        return category;
+    }
+
+    @Override
+    @Transactional
+    public Category update(final Category category) {
+        if (!batchWriter.updateAtVersion(category, CategoryMySqlRepository.fieldsToWrite(category)))
+            throw staleCategory(category);
+
+        final var updated = atNextVersion(category);
+        afterCommit(index -> put(index, updated));
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public boolean patch(final CategoryPatch patch) {
+        if (patch.isEmpty())
+            return findById(patch.id()).isPresent();
+
+        if (!batchWriter.patch(patch))
+            return false;
+
+        // The indexes need both the name and the description, which the patch may not hold
+        if (memoryIndexes.isEnabled() && (patch.has(CategoryField.NAME) || patch.has(CategoryField.DESCRIPTION)))
+            findById(patch.id()).ifPresent(category -> afterCommit(index -> put(index, category)));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        batchWriter.insertAll(validated(categories));
+        afterCommit(index -> categories.forEach(category -> put(index, category)));
+        return List.copyOf(categories);
+    }
+
+    @Override
+    @Transactional
+    public List<Category> updateAll(final List<Category> categories) {
+        final var updated = batchWriter.updateAllAtVersion(validated(categories));
+
+        for (int i = 0; i < updated.length; i++)
+            if (!updated[i])
+                throw staleCategory(categories.get(i));
+
+        final var result = categories.stream().map(CategoryJdbcRepository::atNextVersion).toList();
+        afterCommit(index -> result.forEach(category -> put(index, category)));
+        return result;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return jdbcTemplate.query(SELECT_BY_ID,
+                (RowMapper<Category>) (resultSet, rowNum) -> CategoryJdbcMapping.toCategory(resultSet),
+                (Object) CategoryJdbcMapping.toIdColumn(id))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return find(query, CategoryJdbcMapping.COLUMNS,
+                (resultSet, rowNum) -> CategoryJdbcMapping.toCategory(resultSet));
+    }
+
+    @Override
+    public <T> Pagination<T> findAll(final CategorySearchQuery query, final CategoryListProjection<T> projection) {
+        return find(query, CategoryJdbcMapping.LIST_COLUMNS,
+                (resultSet, rowNum) -> CategoryJdbcMapping.toListItem(resultSet, projection));
+    }
+
+    @Override
+    public void forEach(final Consumer<Category> action) {
+        streamReader.forEach(action);
+    }
+
+    @Override
+    public List<CategorySuggestion> suggest(final String prefix, final int limit) {
+        final var suggested = memoryIndexes.suggest(prefix, limit);
+        if (suggested.isPresent())
+            return suggested.get();
+
+        return jdbcTemplate.query(SUGGEST,
+                (resultSet, rowNum) -> new CategorySuggestion(
+                        CategoryJdbcMapping.getId(resultSet),
+                        resultSet.getString("name")),
+                SearchTermUtils.escapeLike(SearchTermUtils.normalize(prefix)) + "%",
+                limit);
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final CategoryId id) {
+        if (jdbcTemplate.update(DELETE_BY_ID, (Object) CategoryJdbcMapping.toIdColumn(id)) > 0)
+            afterCommit(index -> index.remove(CategoryMemoryIndex.keyOf(id)));
+    }
+
+    @Override
+    @Transactional
+    public void deleteAllById(final Collection<CategoryId> ids) {
+        final var distinctIds = ids.stream().distinct().toList();
+
+        for (int from = 0; from < distinctIds.size(); from += DELETE_BATCH_SIZE) {
+            final var batch = distinctIds.subList(from, Math.min(from + DELETE_BATCH_SIZE, distinctIds.size()));
+            final var sql = "DELETE FROM categories WHERE id IN (" + placeholders(batch.size()) + ")";
+            final var values = batch.stream().map(CategoryJdbcMapping::toIdColumn).toArray();
+
+            if (jdbcTemplate.update(sql, values) > 0)
+                afterCommit(index -> batch.forEach(id -> index.remove(CategoryMemoryIndex.keyOf(id))));
+        }
+    }
+
+    /**
+     * Runs the listing queries of {@link CategoryMySqlRepository#findAll}: keyset
+     * pages, offset pages without a total, and offset pages with a total
+     * counted alongside, or skipped when the page itself tells it.
+     */
+    private <T> Pagination<T> find(
+            final CategorySearchQuery query,
+            final String columns,
+            final RowMapper<T> mapper) {
+        if (query.isCursorPaged())
+            return findAfterCursor(query, columns, mapper);
+
+        final var where = filters(query);
+        final var orderBy = " ORDER BY " + sortColumn(query) + direction(query);
+        final var offset = (long) query.page() * query.perPage();
+
+        if (!query.withTotal()) {
+            final var rows = select(columns, where, orderBy, query.perPage() + 1, offset, mapper);
+            return new Pagination<>(query.page(), query.perPage(), Pagination.UNKNOWN_TOTAL,
+                    rows.subList(0, Math.min(rows.size(), query.perPage())), null, rows.size() > query.perPage());
+        }
+
+        final var parallelTotal = submitCount(where);
+        final var items = ParallelQueryExecutor.alongside(parallelTotal,
+                () -> select(columns, where, orderBy, query.perPage(), offset, mapper));
+
+        final long total;
+        if (parallelTotal.isPresent())
+            total = ParallelQueryExecutor.join(parallelTotal.get());
+        else if (items.size() < query.perPage() && (offset == 0 || !items.isEmpty()))
+            total = offset + items.size();
+        else
+            total = count(where);
+
+        return new Pagination<>(query.page(), query.perPage(), total, items);
+    }
+
+    private <T> Pagination<T> findAfterCursor(
+            final CategorySearchQuery query,
+            final String columns,
+            final RowMapper<T> mapper) {
+        var where = filters(query);
+        if (!query.cursor().isBlank())
+            where = where.and(after(CategoryCursor.decode(query.cursor(), query.sort(), query.direction())));
+
+        final var sortColumn = sortColumn(query);
+        final var orderBy = " ORDER BY " + sortColumn + direction(query) + ", id" + direction(query);
+
+        // Read from the last row of the page while the result set is still on it
+        final var lastCursor = new CategoryCursor[1];
+        final RowMapper<T> keepingCursor = (resultSet, rowNum) -> {
+            if (rowNum == query.perPage() - 1)
+                lastCursor[0] = CategoryCursor.after(
+                        CategoryJdbcMapping.getId(resultSet),
+                        resultSet.getString("name"),
+                        CategoryJdbcMapping.getInstant(resultSet, "created_at"),
+                        query.sort(),
+                        query.direction());
+            return mapper.mapRow(resultSet, rowNum);
+        };
+
+        final var rows = select(columns, where, orderBy, query.perPage() + 1, 0, keepingCursor);
+        final var hasNext = rows.size() > query.perPage();
+        final var items = hasNext ? rows.subList(0, query.perPage()) : rows;
+
+        return new Pagination<>(query.page(), query.perPage(), Pagination.UNKNOWN_TOTAL, items,
+                hasNext ? lastCursor[0].encode() : null);
+    }
+
+    private <T> List<T> select(
+            final String columns,
+            final Where where,
+            final String orderBy,
+            final int limit,
+            final long offset,
+            final RowMapper<T> mapper) {
+        final var sql = "SELECT " + columns + " FROM categories" + where.sql() + orderBy + " LIMIT ? OFFSET ?";
+        final var values = new ArrayList<Object>(where.values());
+        values.add(limit);
+        values.add(offset);
+
+        return jdbcTemplate.query(sql, statement -> CategoryJdbcMapping.setValues(statement, values), mapper);
+    }
+
+    private long count(final Where where) {
+        return jdbcTemplate.query("SELECT COUNT(*) FROM categories" + where.sql(),
+                statement -> CategoryJdbcMapping.setValues(statement, where.values()),
+                resultSet -> resultSet.next() ? resultSet.getLong(1) : 0L);
+    }
+
+    /**
+     * Sends the {@code COUNT(*)} to another connection, see
+     * {@link CategoryMySqlRepository}.
+     */
+    private Optional<Future<Long>> submitCount(final Where where) {
+        if (parallelQueries == null || TransactionUtils.inWritableTransaction())
+            return Optional.empty();
+
+        return parallelQueries.trySubmit(() -> count(where));
+    }
+
+    private Where filters(final CategorySearchQuery query) {
+        var where = Where.NONE;
+
+        final var terms = query.terms();
+        if (terms != null && !terms.isBlank())
+            where = query.searchMode() == CategorySearchMode.PREFIX
+                    ? where.and("name_search" + LIKE, startsWith(terms))
+                    : where.and(substringFilter(terms));
+
+        if (query.active() != null)
+            where = where.and("active = ?", query.active());
+
+        return where;
+    }
+
+    private Where substringFilter(final String terms) {
+        final var indexed = memoryIndexes.search(terms);
+        if (indexed.isEmpty()) {
+            final var pattern = "%" + SearchTermUtils.escapeLike(SearchTermUtils.normalize(terms)) + "%";
+            return Where.NONE.and("(name_search" + LIKE + " OR description_search" + LIKE + ")", pattern, pattern);
+        }
+
+        final var ids = indexed.get();
+        if (ids.isEmpty())
+            return Where.NONE.and("1 = 0");
+
+        return Where.NONE.and("id IN (" + placeholders(ids.size()) + ")",
+                ids.stream().map(id -> CategoryJdbcMapping.toIdColumn(CategoryId.from(id))).toArray());
+    }
+
+    private static Where after(final CategoryCursor cursor) {
+        final var operator = cursor.isDescending() ? " < ?" : " > ?";
+        final Object key = "createdAt".equals(cursor.sort()) ? cursor.instantKey() : cursor.key();
+        final var column = "createdAt".equals(cursor.sort()) ? "created_at" : "name";
+
+        return Where.NONE.and("(" + column + operator + " OR (" + column + " = ? AND id" + operator + "))",
+                key, key, CategoryJdbcMapping.toIdColumn(CategoryId.from(cursor.id())));
+    }
+
+    private static String startsWith(final String terms) {
+        return SearchTermUtils.escapeLike(SearchTermUtils.normalize(terms)) + "%";
+    }
+
+    // The sort was checked against CategorySearchQuery.SORTABLE_FIELDS, so it is safe to inline
+    private static String sortColumn(final CategorySearchQuery query) {
+        return "createdAt".equals(query.sort()) ? "created_at" : "name";
+    }
+
+    private static String direction(final CategorySearchQuery query) {
+        return "desc".equalsIgnoreCase(query.direction()) ? " DESC" : " ASC";
+    }
+
+    private static String placeholders(final int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static Category atNextVersion(final Category category) {
+        return Category.with(category.getId(), category.getName(), category.getDescription(), category.isActive(),
+                category.getCreatedAt(), category.getUpdatedAt(), category.getDeletedAt(), category.getVersion() + 1);
+    }
+
+    private static ConflictException staleCategory(final Category category) {
+        return ConflictException.with(new Error("Category with ID %s was changed or deleted since version %d"
+                .formatted(category.getId().getValue(), category.getVersion())));
+    }
+
+    private static List<Category> validated(final List<Category> categories) {
+        final var handler = new ThrowsValidationHandler();
+        categories.forEach(category -> category.validate(handler));
+        return categories;
+    }
+
+    private static void put(final CategoryMemoryIndex index, final Category category) {
+        index.put(CategoryMemoryIndex.keyOf(category.getId()), category.getName(), category.getDescription());
+    }
+
+    private void afterCommit(final Consumer<CategoryMemoryIndex> update) {
+        memoryIndexes.afterCommit(update);
+    }
+
+    /**
+     * A WHERE clause and the values of its placeholders, in order.
+     */
+    private record Where(String sql, List<Object> values) {
+        static final Where NONE = new Where("", List.of());
+
+        Where and(final String condition, final Object... conditionValues) {
+            return and(new Where(condition, List.of(conditionValues)));
+        }
+
+        Where and(final Where other) {
+            if (other.sql.isEmpty())
+                return this;
+
+            final var allValues = new ArrayList<Object>(values);
+            allValues.addAll(other.values);
+            final var condition = sql.isEmpty()
+                    ? " WHERE " + other.sql
+                    : sql + " AND " + other.sql;
+            return new Where(condition, List.copyOf(allValues));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.UUID;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+
+/**
+ * A structure kept in memory next to the categories table. It is loaded at
+ * startup and then told about every committed write made through the
+ * category repository, see {@link CategoryMemoryIndexes}; writes made by other
+ * instances or straight to the database are only seen after a restart.
+ */
+public interface CategoryMemoryIndex {
+    void put(String id, String name, String description);
+
+    void remove(String id);
+
+    void clear();
+
+    /**
+     * The id the indexes know the category by: a UUID in lower case, as read
+     * back from the table, whatever case it was given in.
+     */
+    static String keyOf(final CategoryId id) {
+        return id.toUuid().map(UUID::toString).orElseGet(id::getValue);
+    }
+}
@@ -0,0 +1,97 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJdbcStreamReader;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.TransactionUtils;
+
+/**
+ * The in-memory indexes that are enabled, shared by the category repository
+ * engines: they answer from the indexes when they can and tell them about
+ * their writes.
+ */
+@Component
+public class CategoryMemoryIndexes {
+    // Null unless `categories.search.trigram-index.enabled` is set
+    private final CategoryTrigramIndex searchIndex;
+    // Null when `categories.search.suggestions.enabled` is false
+    private final CategoryNameSuggestions suggestions;
+    private final List<CategoryMemoryIndex> indexes;
+
+    // Loads every enabled index in one forward-only pass over the table, however many there are
+    public CategoryMemoryIndexes(
+            final ObjectProvider<CategoryTrigramIndex> searchIndex,
+            final ObjectProvider<CategoryNameSuggestions> suggestions,
+            final CategoryJdbcStreamReader streamReader) {
+        this.searchIndex = searchIndex.getIfAvailable();
+        this.suggestions = suggestions.getIfAvailable();
+        this.indexes = Stream.<CategoryMemoryIndex>of(this.searchIndex, this.suggestions)
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (!indexes.isEmpty())
+            streamReader.forEach(category -> indexes.forEach(index -> index.put(
+                    CategoryMemoryIndex.keyOf(category.getId()), category.getName(), category.getDescription())));
+    }
+
+    /**
+     * Whether any index is enabled, so that writes which don't hold the whole
+     * category only read it back for the indexes when there is one.
+     */
+    public boolean isEnabled() {
+        return !indexes.isEmpty();
+    }
+
+    /**
+     * Resolves a substring search to the matching ids through the trigram
+     * index, so the page is then read by primary key. Empty when the index is
+     * disabled or can't answer, and inside a transaction that may have written,
+     * as the index doesn't see uncommitted writes.
+     */
+    public Optional<Set<String>> search(final String terms) {
+        if (searchIndex == null || TransactionUtils.inWritableTransaction())
+            return Optional.empty();
+
+        return searchIndex.search(terms);
+    }
+
+    /**
+     * Suggestions from the names held in memory, or empty when they are
+     * disabled.
+     */
+    public Optional<List<CategorySuggestion>> suggest(final String prefix, final int limit) {
+        return suggestions == null ? Optional.empty() : Optional.of(suggestions.suggest(prefix, limit));
+    }
+
+    /**
+     * The indexes only reflect committed rows, so they are updated once the
+     * surrounding transaction commits, or right away when there is none.
+     */
+    public void afterCommit(final Consumer<CategoryMemoryIndex> update) {
+        if (indexes.isEmpty())
+            return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indexes.forEach(update);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                indexes.forEach(update);
+            }
+        });
+    }
+}
@@ -1,61 +1,167 @@
 package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryField;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryListProjection;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.ConflictException;
 import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.handler.ThrowsValidationHandler;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJdbcBatchWriter;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJdbcStreamReader;
 import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaRepository;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.ParallelQueryExecutor;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.SearchTermUtils;
 import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.SpecificationUtils;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.TransactionUtils;
 
 /**
  * Implements the repository contract defined by the domain of the application.
+ * The default engine, see {@link CategoryJdbcRepository} for the other one.
  */
 @Service
+@ConditionalOnProperty(name = "categories.repository.engine", havingValue = "jpa", matchIfMissing = true)
 public class CategoryMySqlRepository implements CategoryRepository {
+    // Keeps the IN list of a bulk delete well below the placeholder limits of the drivers
+    private static final int DELETE_BATCH_SIZE = 1000;
+
     private final CategoryJpaRepository repository;
+    private final CategoryJdbcBatchWriter batchWriter;
+    private final CategoryJdbcStreamReader streamReader;
+    // Null unless `categories.pagination.parallel-count.enabled` is set
+    private final ParallelQueryExecutor parallelQueries;
+    private final CategoryMemoryIndexes memoryIndexes;
 
-    public CategoryMySqlRepository(final CategoryJpaRepository repository) {
+    public CategoryMySqlRepository(
+            final CategoryJpaRepository repository,
+            final CategoryJdbcBatchWriter batchWriter,
+            final CategoryJdbcStreamReader streamReader,
+            final ObjectProvider<ParallelQueryExecutor> parallelQueries,
+            final CategoryMemoryIndexes memoryIndexes) {
         this.repository = repository;
+        this.batchWriter = batchWriter;
+        this.streamReader = streamReader;
+        this.parallelQueries = parallelQueries.getIfAvailable();
+        this.memoryIndexes = Objects.requireNonNull(memoryIndexes);
     }
 
     @Override
     public Category create(final Category category) {
-        return save(category);
+        final var saved = repository.save(CategoryJpaEntity.newEntity(category));
+        afterCommit(index -> put(index, saved));
+        return saved.toDomainCategory();
     }
 
     @Override
     public Category update(final Category category) {
-        return save(category);
+        final var entity = CategoryJpaEntity.from(category);
+        entity.normalizeSearchColumns();
+
+        if (repository.updateAtVersion(entity, fieldsToWrite(category)) == 0)
+            throw staleCategory(entity);
+
+        entity.setVersion(category.getVersion() + 1);
+        afterCommit(index -> put(index, entity));
+        return entity.toDomainCategory();
+    }
+
+    @Override
+    @Transactional
+    public boolean patch(final CategoryPatch patch) {
+        final var id = patch.id();
+        if (patch.isEmpty())
+            return repository.existsById(id);
+
+        if (repository.patch(patch) == 0)
+            return false;
+
+        // The indexes need both the name and the description, which the patch may not hold
+        if (memoryIndexes.isEnabled() && (patch.has(CategoryField.NAME) || patch.has(CategoryField.DESCRIPTION)))
+            repository.findById(id).ifPresent(entity -> afterCommit(index -> put(index, entity)));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        validated(categories);
+
+        // Pending JPA writes of the transaction have to reach the database before the JDBC ones
+        repository.flush();
+        batchWriter.insertAll(categories);
+
+        final var entities = categories.stream().map(CategoryJpaEntity::from).toList();
+        afterCommit(index -> entities.forEach(entity -> put(index, entity)));
+        return entities.stream().map(CategoryJpaEntity::toDomainCategory).toList();
+    }
+
+    @Override
+    @Transactional
+    public List<Category> updateAll(final List<Category> categories) {
+        validated(categories);
+
+        repository.flush();
+        final var updated = batchWriter.updateAllAtVersion(categories);
+
+        final var entities = categories.stream().map(CategoryJpaEntity::from).toList();
+
+        for (int i = 0; i < updated.length; i++) {
+            final var entity = entities.get(i);
+            if (!updated[i])
+                throw staleCategory(entity);
+            entity.setVersion(entity.getVersion() + 1);
+        }
+
+        afterCommit(index -> entities.forEach(entity -> put(index, entity)));
+        return entities.stream().map(CategoryJpaEntity::toDomainCategory).toList();
     }
 
     @Override
     public Optional<Category> findById(CategoryId id) {
-        return repository.findById(id.getValue()).map(CategoryJpaEntity::toDomainCategory);
+        return repository.findById(id).map(CategoryJpaEntity::toDomainCategory);
     }
 
     @Override
     public Pagination<Category> findAll(CategorySearchQuery query) {
+        if (query.isCursorPaged())
+            return findAllAfterCursor(query);
+
+        if (!query.withTotal())
+            return findSlice(query);
+
+        final var where = filters(query);
+        final var total = submitCount(where);
+        if (total.isPresent())
+            return findPageWithParallelCount(query, where, total.get());
+
         final var page = PageRequest.of(
                 query.page(),
                 query.perPage(),
                 Sort.by(Sort.Direction.fromString(query.direction()), query.sort()));
 
-        final var specifications = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> SpecificationUtils.<CategoryJpaEntity>like("name", str)
-                        .or(SpecificationUtils.like("description", str)))
-                .orElse(null);
-
-        final var pageResult = repository.findAll(Specification.where(specifications), page);
+        final var pageResult = repository.findAll(where, page);
 
         return new Pagination<>(
                 pageResult.getNumber(),
@@ -64,15 +170,235 @@ public class CategoryMySqlRepository implements CategoryRepository {
                 pageResult.map(CategoryJpaEntity::toDomainCategory).toList());
     }
 
+    /**
+     * Runs the same queries as {@link #findAll(CategorySearchQuery)}, but only
+     * selects the listed columns, so no entity, persistence context snapshot
+     * or {@link Category} is created for the rows.
+     */
+    @Override
+    public <T> Pagination<T> findAll(final CategorySearchQuery query, final CategoryListProjection<T> projection) {
+        if (query.isCursorPaged())
+            return findAllAfterCursor(query, projection);
+
+        final var where = filters(query);
+        final var sort = Sort.by(Sort.Direction.fromString(query.direction()), query.sort());
+        final var offset = (long) query.page() * query.perPage();
+
+        if (!query.withTotal()) {
+            final var rows = repository.findSlice(where, sort, offset, query.perPage() + 1, projection);
+            return new Pagination<>(query.page(), query.perPage(), Pagination.UNKNOWN_TOTAL,
+                    rows.subList(0, Math.min(rows.size(), query.perPage())), null, rows.size() > query.perPage());
+        }
+
+        final var parallelTotal = submitCount(where);
+        final var items = ParallelQueryExecutor.alongside(parallelTotal,
+                () -> repository.findSlice(where, sort, offset, query.perPage(), projection));
+
+        // Like a Spring Data Page, skips the COUNT(*) when the page itself tells the total
+        final long total;
+        if (parallelTotal.isPresent())
+            total = ParallelQueryExecutor.join(parallelTotal.get());
+        else if (items.size() < query.perPage() && (offset == 0 || !items.isEmpty()))
+            total = offset + items.size();
+        else
+            total = repository.count(where);
+
+        return new Pagination<>(query.page(), query.perPage(), total, items);
+    }
+
+    @Override
+    public void forEach(final Consumer<Category> action) {
+        // The rows are read through JDBC, which only sees the JPA writes of the transaction once flushed
+        repository.flush();
+        streamReader.forEach(action);
+    }
+
+    @Override
+    public List<CategorySuggestion> suggest(final String prefix, final int limit) {
+        final var suggested = memoryIndexes.suggest(prefix, limit);
+        if (suggested.isPresent())
+            return suggested.get();
+
+        final var where = SpecificationUtils.<CategoryJpaEntity>startsWith("nameSearch",
+                SearchTermUtils.normalize(prefix));
+        return repository.findSlice(where, Sort.by("nameSearch", "id"), 0, limit).stream()
+                .map(entity -> new CategorySuggestion(entity.getId(), entity.getName()))
+                .toList();
+    }
+
     @Override
     public void deleteById(CategoryId id) {
-        final var idValue = id.getValue();
-        if (repository.existsById(idValue)) {
-            repository.deleteById(idValue);
+        if (repository.deleteRowById(id) > 0)
+            afterCommit(index -> index.remove(CategoryMemoryIndex.keyOf(id)));
+    }
+
+    // One transaction around all the batches, so that a failing batch also undoes the ones before it
+    @Override
+    @Transactional
+    public void deleteAllById(final Collection<CategoryId> ids) {
+        final var distinctIds = ids.stream().distinct().toList();
+
+        for (int from = 0; from < distinctIds.size(); from += DELETE_BATCH_SIZE) {
+            final var batch = distinctIds.subList(from, Math.min(from + DELETE_BATCH_SIZE, distinctIds.size()));
+            if (repository.deleteRowsById(batch) > 0)
+                afterCommit(index -> batch.forEach(id -> index.remove(CategoryMemoryIndex.keyOf(id))));
         }
     }
 
-    private Category save(final Category category) {
-        return repository.save(CategoryJpaEntity.from(category)).toDomainCategory();
+    static Set<CategoryField> fieldsToWrite(final Category category) {
+        return category.hasChanges() ? category.getChangedFields() : CategoryField.ALL;
+    }
+
+    private static ConflictException staleCategory(final CategoryJpaEntity entity) {
+        return ConflictException.with(new Error("Category with ID %s was changed or deleted since version %d"
+                .formatted(entity.getId().getValue(), entity.getVersion())));
+    }
+
+    private static List<Category> validated(final List<Category> categories) {
+        final var handler = new ThrowsValidationHandler();
+        categories.forEach(category -> category.validate(handler));
+        return categories;
+    }
+
+    private static void put(final CategoryMemoryIndex index, final CategoryJpaEntity entity) {
+        index.put(CategoryMemoryIndex.keyOf(entity.getId()), entity.getName(), entity.getDescription());
+    }
+
+    private void afterCommit(final Consumer<CategoryMemoryIndex> update) {
+        memoryIndexes.afterCommit(update);
+    }
+
+    /**
+     * Keyset pagination: seeks right after the row encoded in the cursor and
+     * reads one extra row to know whether there is a next page, so the cost of
+     * a page doesn't depend on how deep it is. No {@code COUNT(*)} is issued.
+     */
+    private Pagination<Category> findAllAfterCursor(final CategorySearchQuery query) {
+        final var rows = repository.findSlice(cursorFilters(query), cursorSort(query), 0, query.perPage() + 1);
+        final var hasNext = rows.size() > query.perPage();
+        final var items = rows.stream()
+                .limit(query.perPage())
+                .map(CategoryJpaEntity::toDomainCategory)
+                .toList();
+
+        final var next = hasNext
+                ? CategoryCursor.after(items.get(items.size() - 1), query.sort(), query.direction()).encode()
+                : null;
+
+        return new Pagination<>(query.page(), query.perPage(), Pagination.UNKNOWN_TOTAL, items, next);
+    }
+
+    private <T> Pagination<T> findAllAfterCursor(
+            final CategorySearchQuery query,
+            final CategoryListProjection<T> projection) {
+        // The items are opaque here, so the cursor is taken from the columns of the last row of the page
+        final var rowCount = new int[1];
+        final var lastCursor = new CategoryCursor[1];
+        final CategoryListProjection<T> keepingCursor = (id, name, description, active, createdAt, deletedAt) -> {
+            if (++rowCount[0] == query.perPage())
+                lastCursor[0] = CategoryCursor.after(id, name, createdAt, query.sort(), query.direction());
+            return projection.project(id, name, description, active, createdAt, deletedAt);
+        };
+
+        final var rows = repository.findSlice(cursorFilters(query), cursorSort(query), 0, query.perPage() + 1,
+                keepingCursor);
+        final var hasNext = rows.size() > query.perPage();
+        final var items = hasNext ? rows.subList(0, query.perPage()) : rows;
+
+        return new Pagination<>(query.page(), query.perPage(), Pagination.UNKNOWN_TOTAL, items,
+                hasNext ? lastCursor[0].encode() : null);
+    }
+
+    private Specification<CategoryJpaEntity> cursorFilters(final CategorySearchQuery query) {
+        final var where = filters(query);
+        return query.cursor().isBlank()
+                ? where
+                : where.and(after(CategoryCursor.decode(query.cursor(), query.sort(), query.direction())));
+    }
+
+    private static Sort cursorSort(final CategorySearchQuery query) {
+        final var direction = Sort.Direction.fromString(query.direction());
+        return Sort.by(direction, query.sort()).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Sends the {@code COUNT(*)} to another connection so that both queries
+     * run at the same time. Declines when disabled, when the executor is at
+     * capacity or when the caller is inside a transaction that may have
+     * written, since the other connection would not see its writes.
+     */
+    private Optional<Future<Long>> submitCount(final Specification<CategoryJpaEntity> where) {
+        if (parallelQueries == null || TransactionUtils.inWritableTransaction())
+            return Optional.empty();
+
+        return parallelQueries.trySubmit(() -> repository.count(where));
+    }
+
+    private Pagination<Category> findPageWithParallelCount(
+            final CategorySearchQuery query,
+            final Specification<CategoryJpaEntity> where,
+            final Future<Long> total) {
+        final var sort = Sort.by(Sort.Direction.fromString(query.direction()), query.sort());
+        final var offset = (long) query.page() * query.perPage();
+
+        final var items = ParallelQueryExecutor.alongside(Optional.of(total),
+                () -> repository.findSlice(where, sort, offset, query.perPage()).stream()
+                        .map(CategoryJpaEntity::toDomainCategory)
+                        .toList());
+
+        return new Pagination<>(query.page(), query.perPage(), ParallelQueryExecutor.join(total), items);
+    }
+
+    /**
+     * Offset pagination without {@code COUNT(*)}: reads one extra row to know
+     * whether there is a next page.
+     */
+    private Pagination<Category> findSlice(final CategorySearchQuery query) {
+        final var sort = Sort.by(Sort.Direction.fromString(query.direction()), query.sort());
+        final var offset = (long) query.page() * query.perPage();
+
+        final var rows = repository.findSlice(filters(query), sort, offset, query.perPage() + 1);
+        final var items = rows.stream()
+                .limit(query.perPage())
+                .map(CategoryJpaEntity::toDomainCategory)
+                .toList();
+
+        return new Pagination<>(query.page(), query.perPage(), Pagination.UNKNOWN_TOTAL, items, null,
+                rows.size() > query.perPage());
+    }
+
+    private Specification<CategoryJpaEntity> filters(final CategorySearchQuery query) {
+        final var where = Specification.where(termsFilter(query));
+        return query.active() == null
+                ? where
+                : where.and(SpecificationUtils.equal("active", query.active()));
+    }
+
+    private Specification<CategoryJpaEntity> termsFilter(final CategorySearchQuery query) {
+        return Optional.ofNullable(query.terms())
+                .filter(str -> !str.isBlank())
+                .map(str -> switch (query.searchMode()) {
+                    case PREFIX -> SpecificationUtils.<CategoryJpaEntity>startsWith("nameSearch",
+                            SearchTermUtils.normalize(str));
+                    case SUBSTRING -> memoryIndexes.search(str)
+                            .map(ids -> SpecificationUtils.<CategoryJpaEntity>in("id",
+                                    ids.stream().map(CategoryId::from).toList()))
+                            .orElseGet(() -> containsFilter(SearchTermUtils.normalize(str)));
+                })
+                .orElse(null);
+    }
+
+    private static Specification<CategoryJpaEntity> containsFilter(final String normalizedTerms) {
+        return SpecificationUtils.<CategoryJpaEntity>contains("nameSearch", normalizedTerms)
+                .or(SpecificationUtils.contains("descriptionSearch", normalizedTerms));
+    }
+
+    private Specification<CategoryJpaEntity> after(final CategoryCursor cursor) {
+        if ("createdAt".equals(cursor.sort()))
+            return SpecificationUtils.after("createdAt", cursor.instantKey(), "id", CategoryId.from(cursor.id()),
+                    cursor.isDescending());
+
+        return SpecificationUtils.after("name", cursor.key(), "id", CategoryId.from(cursor.id()),
+                cursor.isDescending());
     }
 }
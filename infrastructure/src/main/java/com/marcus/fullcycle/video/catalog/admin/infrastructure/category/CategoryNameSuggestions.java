@@ -0,0 +1,68 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.SearchTermUtils;
+
+/**
+ * Category names sorted by their normalized form, so that every name starting
+ * with a prefix sits in one contiguous range found with a single O(log n)
+ * seek. Serves typeahead lookups without going to the database.
+ */
+public final class CategoryNameSuggestions implements CategoryMemoryIndex {
+    // Sorts below any character of a name, so equal names are ordered by id
+    private static final char KEY_SEPARATOR = '\0';
+
+    private final ConcurrentSkipListMap<String, CategorySuggestion> byName = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, String> keysById = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(final String id, final String name, final String description) {
+        final var key = SearchTermUtils.normalize(name) + KEY_SEPARATOR + id;
+        final var suggestion = new CategorySuggestion(CategoryId.from(id), name);
+
+        keysById.compute(id, (ignored, previousKey) -> {
+            if (previousKey != null)
+                byName.remove(previousKey);
+
+            byName.put(key, suggestion);
+            return key;
+        });
+    }
+
+    @Override
+    public void remove(final String id) {
+        keysById.computeIfPresent(id, (ignored, previousKey) -> {
+            byName.remove(previousKey);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        keysById.clear();
+        byName.clear();
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+
+    public List<CategorySuggestion> suggest(final String prefix, final int limit) {
+        final var normalized = SearchTermUtils.normalize(prefix);
+        final var suggestions = new ArrayList<CategorySuggestion>(Math.min(limit, 64));
+
+        for (final var entry : byName.tailMap(normalized).entrySet()) {
+            if (suggestions.size() == limit || !entry.getKey().startsWith(normalized))
+                break;
+
+            suggestions.add(entry.getValue());
+        }
+        return suggestions;
+    }
+}
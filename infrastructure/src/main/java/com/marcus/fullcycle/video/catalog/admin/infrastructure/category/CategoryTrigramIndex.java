@@ -0,0 +1,134 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.SearchTermUtils;
+
+/**
+ * In-memory inverted index from every 3-character sequence (trigram) of the
+ * normalized name and description of a category to the ids of the categories
+ * containing it. A substring search intersects the postings of the trigrams of
+ * its terms and checks the few remaining candidates against the indexed text,
+ * so its cost follows the number of matches instead of the size of the table.
+ *
+ * <p>Terms shorter than a trigram, and terms matching more than
+ * {@code maxMatches} categories, are left to the database.
+ */
+public final class CategoryTrigramIndex implements CategoryMemoryIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final ConcurrentHashMap<String, Set<String>> postings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxMatches;
+
+    public CategoryTrigramIndex(final int maxMatches) {
+        if (maxMatches < 1)
+            throw new IllegalArgumentException("`maxMatches` must be at least 1");
+
+        this.maxMatches = maxMatches;
+    }
+
+    @Override
+    public void put(final String id, final String name, final String description) {
+        final var entry = Entry.of(name, description);
+
+        entries.compute(id, (key, previous) -> {
+            if (previous != null)
+                previous.grams().stream()
+                        .filter(gram -> !entry.grams().contains(gram))
+                        .forEach(gram -> removePosting(gram, key));
+
+            entry.grams().forEach(gram -> addPosting(gram, key));
+            return entry;
+        });
+    }
+
+    @Override
+    public void remove(final String id) {
+        entries.computeIfPresent(id, (key, previous) -> {
+            previous.grams().forEach(gram -> removePosting(gram, key));
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        postings.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Ids of the categories whose name or description contains the terms, or
+     * empty when the index can't answer: the terms are shorter than a trigram
+     * or match more than {@code maxMatches} categories.
+     */
+    public Optional<Set<String>> search(final String terms) {
+        final var normalized = SearchTermUtils.normalize(terms);
+        if (normalized == null || normalized.length() < GRAM_LENGTH)
+            return Optional.empty();
+
+        final var termPostings = gramsOf(normalized).stream()
+                .map(gram -> postings.getOrDefault(gram, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+
+        final var matches = new HashSet<String>();
+        for (final var id : termPostings.get(0)) {
+            final var entry = entries.get(id);
+            if (entry == null || !entry.contains(normalized)
+                    || !termPostings.stream().allMatch(posting -> posting.contains(id)))
+                continue;
+
+            if (matches.size() == maxMatches)
+                return Optional.empty();
+
+            matches.add(id);
+        }
+        return Optional.of(matches);
+    }
+
+    private void addPosting(final String gram, final String id) {
+        postings.compute(gram, (key, ids) -> {
+            final var posting = ids != null ? ids : ConcurrentHashMap.<String>newKeySet();
+            posting.add(id);
+            return posting;
+        });
+    }
+
+    private void removePosting(final String gram, final String id) {
+        postings.computeIfPresent(gram, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static Set<String> gramsOf(final String text) {
+        final var grams = new HashSet<String>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++)
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        return grams;
+    }
+
+    private record Entry(String name, String description, Set<String> grams) {
+        static Entry of(final String name, final String description) {
+            final var normalizedName = Optional.ofNullable(SearchTermUtils.normalize(name)).orElse("");
+            final var normalizedDescription = Optional.ofNullable(SearchTermUtils.normalize(description)).orElse("");
+
+            final var grams = gramsOf(normalizedName);
+            grams.addAll(gramsOf(normalizedDescription));
+            return new Entry(normalizedName, normalizedDescription, Set.copyOf(grams));
+        }
+
+        boolean contains(final String normalizedTerms) {
+            return name.contains(normalizedTerms) || description.contains(normalizedTerms);
+        }
+    }
+}
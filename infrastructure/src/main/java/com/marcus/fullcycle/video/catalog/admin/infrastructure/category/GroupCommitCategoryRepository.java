@@ -0,0 +1,301 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryListProjection;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
+
+/**
+ * Coalesces the {@code create}/{@code update} calls of concurrent request
+ * threads into shared transactions, so that a burst of writes pays for one
+ * commit per batch instead of one per call. A writer thread waits up to
+ * {@code windowMillis} after the first pending write, or until
+ * {@code maxBatchSize} writes are pending, and writes them all through
+ * {@link CategoryRepository#createAll} and {@link CategoryRepository#updateAll}
+ * in one transaction.
+ * <p>
+ * Callers still block until their own write is committed and get its result
+ * or its exception. When a batch fails, each of its writes is retried alone,
+ * so one invalid or conflicting write only fails its own caller. Calls made
+ * inside a transaction, and every other method, go straight to the delegate.
+ * <p>
+ * A caller waits at most {@code awaitTimeoutMillis} for its write. If the
+ * write is still queued by then it is dropped, otherwise it may still commit.
+ * If the writer thread dies, the writes waiting for it fail and later ones go
+ * straight to the delegate.
+ */
+public final class GroupCommitCategoryRepository implements CategoryRepository, AutoCloseable {
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final CategoryRepository delegate;
+    private final TransactionOperations transaction;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long awaitTimeoutMillis;
+    private final BlockingQueue<PendingWrite> pending = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    public GroupCommitCategoryRepository(
+            final CategoryRepository delegate,
+            final TransactionOperations transaction,
+            final long windowMillis,
+            final int maxBatchSize,
+            final long awaitTimeoutMillis) {
+        if (windowMillis < 0)
+            throw new IllegalArgumentException("`windowMillis` must not be negative");
+        if (maxBatchSize < 1)
+            throw new IllegalArgumentException("`maxBatchSize` must be at least 1");
+        if (awaitTimeoutMillis < 1)
+            throw new IllegalArgumentException("`awaitTimeoutMillis` must be at least 1");
+
+        this.delegate = delegate;
+        this.transaction = transaction;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.writer = new Thread(this::writeBatches, "category-group-commit");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return submit(new PendingWrite(category, true));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return submit(new PendingWrite(category, false));
+    }
+
+    @Override
+    public boolean patch(final CategoryPatch patch) {
+        return delegate.patch(patch);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return delegate.createAll(categories);
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return delegate.updateAll(categories);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public <T> Pagination<T> findAll(final CategorySearchQuery query, final CategoryListProjection<T> projection) {
+        return delegate.findAll(query, projection);
+    }
+
+    @Override
+    public void forEach(final Consumer<Category> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public List<CategorySuggestion> suggest(final String prefix, final int limit) {
+        return delegate.suggest(prefix, limit);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public void deleteAllById(final Collection<CategoryId> ids) {
+        delegate.deleteAllById(ids);
+    }
+
+    /**
+     * Writes what is still pending and stops the writer thread; later writes
+     * go straight to the delegate.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        final var leftovers = new ArrayList<PendingWrite>();
+        pending.drainTo(leftovers);
+        leftovers.forEach(write -> write.writeAlone(delegate));
+    }
+
+    private Category submit(final PendingWrite write) {
+        // The caller's transaction must see its own write, and a closed writer won't take it
+        if (closed || TransactionSynchronizationManager.isActualTransactionActive())
+            return write.applyTo(delegate);
+
+        pending.add(write);
+        // Closed meanwhile: whoever removes the write from the queue writes it
+        if (closed && pending.remove(write))
+            return write.applyTo(delegate);
+
+        try {
+            return write.await(awaitTimeoutMillis);
+        } catch (final TimeoutException e) {
+            final var dropped = pending.remove(write);
+            throw new IllegalStateException("Timed out after " + awaitTimeoutMillis + "ms waiting for the group commit"
+                    + " of category " + write.category().getId().getValue()
+                    + (dropped ? ", which was not written" : ", which may still be written"), e);
+        }
+    }
+
+    private void writeBatches() {
+        final var batch = new ArrayList<PendingWrite>(maxBatchSize);
+        try {
+            while (!closed || !pending.isEmpty()) {
+                batch.clear();
+                final var first = pending.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    collectBatch(batch);
+                    write(batch);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop(batch, new IllegalStateException("The group commit writer was interrupted", e));
+        } catch (final RuntimeException | Error e) {
+            stop(batch, new IllegalStateException("The group commit writer failed", e));
+            throw e;
+        }
+    }
+
+    // Fails the writes left waiting for the writer; from now on writes go straight to the delegate
+    private void stop(final List<PendingWrite> batch, final RuntimeException failure) {
+        closed = true;
+        final var stranded = new ArrayList<>(batch);
+        pending.drainTo(stranded);
+        stranded.forEach(write -> write.result().completeExceptionally(failure));
+    }
+
+    private void collectBatch(final List<PendingWrite> batch) throws InterruptedException {
+        final var deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            final var remaining = deadline - System.nanoTime();
+            final var next = remaining > 0 ? pending.poll(remaining, TimeUnit.NANOSECONDS) : pending.poll();
+            if (next == null)
+                break;
+            batch.add(next);
+        }
+    }
+
+    private void write(final List<PendingWrite> batch) {
+        if (batch.size() == 1) {
+            batch.get(0).writeAlone(delegate);
+            return;
+        }
+
+        final var creates = batch.stream().filter(PendingWrite::isCreate).toList();
+        final var updates = batch.stream().filter(write -> !write.isCreate()).toList();
+
+        final List<List<Category>> results;
+        try {
+            results = transaction.execute(status -> List.of(
+                    creates.isEmpty() ? List.of() : delegate.createAll(categoriesOf(creates)),
+                    updates.isEmpty() ? List.of() : delegate.updateAll(categoriesOf(updates))));
+        } catch (final RuntimeException e) {
+            batch.forEach(write -> write.writeAlone(delegate));
+            return;
+        }
+
+        complete(creates, results.get(0));
+        complete(updates, results.get(1));
+    }
+
+    private static List<Category> categoriesOf(final List<PendingWrite> writes) {
+        return writes.stream().map(PendingWrite::category).toList();
+    }
+
+    private static void complete(final List<PendingWrite> writes, final List<Category> results) {
+        for (int i = 0; i < writes.size(); i++)
+            writes.get(i).result().complete(results.get(i));
+    }
+
+    // Not a record: pending writes are told apart by identity, never by their category
+    private static final class PendingWrite {
+        private final Category category;
+        private final boolean create;
+        private final CompletableFuture<Category> result = new CompletableFuture<>();
+
+        PendingWrite(final Category category, final boolean create) {
+            this.category = category;
+            this.create = create;
+        }
+
+        Category category() {
+            return category;
+        }
+
+        boolean isCreate() {
+            return create;
+        }
+
+        CompletableFuture<Category> result() {
+            return result;
+        }
+
+        Category applyTo(final CategoryRepository repository) {
+            return create ? repository.create(category) : repository.update(category);
+        }
+
+        void writeAlone(final CategoryRepository repository) {
+            try {
+                result.complete(applyTo(repository));
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+
+        Category await(final long timeoutMillis) throws TimeoutException {
+            try {
+                return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a group commit", e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause)
+                    throw cause;
+                if (e.getCause() instanceof Error cause)
+                    throw cause;
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryListProjection;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource.ReplicaRouting;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Serves {@code findById} from memory, reading through to the delegate on a
+ * miss. Holds at most {@code maximumSize} categories, missing ones included,
+ * each for at most {@code ttl} after it was read. Callers get a copy of the
+ * cached category, which they are free to change.
+ * <p>
+ * Every write invalidates the categories it touches, right away and again
+ * once its transaction ends, so a read that raced the write can't keep the
+ * old row. Reads inside a transaction that may have written skip the cache,
+ * as they may see uncommitted rows. With {@code replicaEnabled}, so do reads
+ * sent to the replica, which may be behind the cache and would put old rows
+ * back in it, and reads {@linkplain ReplicaRouting#pinToPrimary() pinned to
+ * the primary}, which must see the latest writes. Writes made by other
+ * instances or straight to the database, and rows written behind, are only
+ * seen once their entries expire. Every other method goes straight to the
+ * delegate.
+ * <p>
+ * Publishes the {@code cache.gets} (hits and misses), {@code cache.evictions}
+ * and {@code cache.size} metrics of the {@code categories.by_id} cache.
+ */
+public final class ReadThroughCategoryRepository implements CategoryRepository {
+    private final CategoryRepository delegate;
+    private final Cache<CategoryId, Optional<Category>> byId;
+    private final boolean replicaEnabled;
+
+    public ReadThroughCategoryRepository(
+            final CategoryRepository delegate,
+            final long maximumSize,
+            final Duration ttl,
+            final MeterRegistry registry,
+            final boolean replicaEnabled) {
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("`maximumSize` must be at least 1");
+        if (ttl.isZero() || ttl.isNegative())
+            throw new IllegalArgumentException("`ttl` must be positive");
+
+        this.delegate = delegate;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, byId, "categories.by_id");
+        this.replicaEnabled = replicaEnabled;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return written(List.of(category.getId()), () -> delegate.create(category));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return written(List.of(category.getId()), () -> delegate.update(category));
+    }
+
+    @Override
+    public boolean patch(final CategoryPatch patch) {
+        return written(List.of(patch.id()), () -> delegate.patch(patch));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return written(ids(categories), () -> delegate.createAll(categories));
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return written(ids(categories), () -> delegate.updateAll(categories));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        if (TransactionUtils.inWritableTransaction() || routed())
+            return delegate.findById(id);
+
+        return byId.get(id, delegate::findById).map(Category::clone);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public <T> Pagination<T> findAll(final CategorySearchQuery query, final CategoryListProjection<T> projection) {
+        return delegate.findAll(query, projection);
+    }
+
+    @Override
+    public void forEach(final Consumer<Category> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public List<CategorySuggestion> suggest(final String prefix, final int limit) {
+        return delegate.suggest(prefix, limit);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        written(List.of(id), () -> {
+            delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAllById(final Collection<CategoryId> ids) {
+        written(List.copyOf(ids), () -> {
+            delegate.deleteAllById(ids);
+            return null;
+        });
+    }
+
+    // Also invalidates when the write fails, e.g. on a conflict, as the cached row may be the stale one
+    private <T> T written(final List<CategoryId> ids, final Supplier<T> write) {
+        try {
+            return write.get();
+        } finally {
+            byId.invalidateAll(ids);
+            if (TransactionSynchronizationManager.isSynchronizationActive())
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        byId.invalidateAll(ids);
+                    }
+                });
+        }
+    }
+
+    private boolean routed() {
+        return replicaEnabled && (ReplicaRouting.usesReplica() || ReplicaRouting.isPinnedToPrimary());
+    }
+
+    private static List<CategoryId> ids(final List<Category> categories) {
+        return categories.stream().map(Category::getId).toList();
+    }
+}
@@ -0,0 +1,323 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryListProjection;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Acknowledges {@code create}/{@code update} as soon as they are buffered and
+ * writes them to the delegate in batches of up to {@code batchSize} on a
+ * background thread, trading a short durability window for throughput during
+ * bulk backfills.
+ * <p>
+ * The buffer is a lock-free queue bounded by {@code capacity}: when it is full
+ * writers block until the flusher makes room, so a backfill can't outrun the
+ * database. Until a write is flushed it is not visible to reads, and a write
+ * that fails (e.g. a version conflict) can only be logged and counted, as its
+ * caller is already gone. Calls made inside a transaction, and every other
+ * method, go straight to the delegate.
+ * <p>
+ * Only the flusher drains the buffer, and {@link #close()} once it is gone.
+ * If the flusher dies, the writes it still held are dropped and later writes
+ * go straight to the delegate, like after {@code close()}.
+ * <p>
+ * Publishes {@code categories.write_behind.queue.depth},
+ * {@code categories.write_behind.flush.lag} (age of the oldest buffered write)
+ * and counters of {@code flushed} and {@code failed} writes.
+ */
+public final class WriteBehindCategoryRepository implements CategoryRepository, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindCategoryRepository.class);
+
+    private final CategoryRepository delegate;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Queue<PendingWrite> buffer = new ConcurrentLinkedQueue<>();
+    private final Semaphore freeSlots;
+    private final int capacity;
+    private final Counter flushed;
+    private final Counter failed;
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    public WriteBehindCategoryRepository(
+            final CategoryRepository delegate,
+            final int capacity,
+            final int batchSize,
+            final long flushIntervalMillis,
+            final MeterRegistry registry) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("`capacity` must be at least 1");
+        if (batchSize < 1)
+            throw new IllegalArgumentException("`batchSize` must be at least 1");
+        if (flushIntervalMillis < 1)
+            throw new IllegalArgumentException("`flushIntervalMillis` must be at least 1");
+
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.freeSlots = new Semaphore(capacity);
+
+        Gauge.builder("categories.write_behind.queue.depth", this, WriteBehindCategoryRepository::queueDepth)
+                .description("Writes acknowledged but not yet flushed")
+                .register(registry);
+        Gauge.builder("categories.write_behind.flush.lag", this, WriteBehindCategoryRepository::flushLagSeconds)
+                .description("Age of the oldest write not yet flushed")
+                .baseUnit("seconds")
+                .register(registry);
+        this.flushed = Counter.builder("categories.write_behind.flushed").register(registry);
+        this.failed = Counter.builder("categories.write_behind.failed").register(registry);
+
+        this.flusher = new Thread(this::flushContinuously, "category-write-behind");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public Category create(final Category category) {
+        if (writesThrough() || !enqueue(new PendingWrite(category, true)))
+            return delegate.create(category);
+
+        return category;
+    }
+
+    /**
+     * Returns the category at the version it will have once flushed.
+     */
+    @Override
+    public Category update(final Category category) {
+        if (writesThrough() || !enqueue(new PendingWrite(category, false)))
+            return delegate.update(category);
+
+        return Category.with(category.getId(), category.getName(), category.getDescription(), category.isActive(),
+                category.getCreatedAt(), category.getUpdatedAt(), category.getDeletedAt(), category.getVersion() + 1);
+    }
+
+    @Override
+    public boolean patch(final CategoryPatch patch) {
+        return delegate.patch(patch);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return delegate.createAll(categories);
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return delegate.updateAll(categories);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return delegate.findAll(query);
+    }
+
+    @Override
+    public <T> Pagination<T> findAll(final CategorySearchQuery query, final CategoryListProjection<T> projection) {
+        return delegate.findAll(query, projection);
+    }
+
+    @Override
+    public void forEach(final Consumer<Category> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public List<CategorySuggestion> suggest(final String prefix, final int limit) {
+        return delegate.suggest(prefix, limit);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public void deleteAllById(final Collection<CategoryId> ids) {
+        delegate.deleteAllById(ids);
+    }
+
+    public int queueDepth() {
+        return capacity - freeSlots.availablePermits();
+    }
+
+    public double flushLagSeconds() {
+        final var oldest = buffer.peek();
+        return oldest == null ? 0 : (System.nanoTime() - oldest.enqueuedAt()) / 1e9;
+    }
+
+    /**
+     * Flushes every buffered write and stops the flusher; later writes go
+     * straight to the delegate.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Writes enqueued while the flusher was exiting; their callers write the later ones themselves
+        flushAvailable();
+    }
+
+    private boolean writesThrough() {
+        return closed || TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    /**
+     * Buffers the write, or returns false when the repository was closed
+     * meanwhile, in which case the caller writes it straight to the delegate.
+     */
+    private boolean enqueue(final PendingWrite write) {
+        try {
+            freeSlots.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for room in the write-behind buffer", e);
+        }
+
+        buffer.add(write);
+
+        // Closed meanwhile: the flusher may be gone already, so whoever takes the write out of the buffer writes it
+        if (closed && buffer.remove(write)) {
+            freeSlots.release();
+            return false;
+        }
+
+        if (queueDepth() >= batchSize)
+            LockSupport.unpark(flusher);
+        return true;
+    }
+
+    private void flushContinuously() {
+        while (!closed || !buffer.isEmpty()) {
+            if (flushAvailable() == 0)
+                LockSupport.parkNanos(this, flushIntervalNanos);
+        }
+    }
+
+    /**
+     * Writes every buffered write, batch after batch, and returns how many
+     * there were.
+     */
+    private int flushAvailable() {
+        var total = 0;
+        while (true) {
+            final var batch = new ArrayList<PendingWrite>(batchSize);
+            PendingWrite write;
+            while (batch.size() < batchSize && (write = buffer.poll()) != null)
+                batch.add(write);
+
+            if (batch.isEmpty())
+                return total;
+
+            try {
+                flush(batch);
+            } catch (final RuntimeException | Error e) {
+                stop(batch, e);
+                throw e;
+            }
+            freeSlots.release(batch.size());
+            total += batch.size();
+        }
+    }
+
+    /**
+     * Drops the failed batch, which may be partly written, and every buffered
+     * write, as nothing is left to flush them; later writes go straight to the
+     * delegate. Closed before any room is freed, so the writers waiting for it
+     * write through too.
+     */
+    private void stop(final List<PendingWrite> batch, final Throwable failure) {
+        closed = true;
+        final var stranded = new ArrayList<>(batch);
+        PendingWrite write;
+        while ((write = buffer.poll()) != null)
+            stranded.add(write);
+
+        stranded.forEach(pending -> drop(pending, failure));
+        freeSlots.release(stranded.size());
+    }
+
+    // Runs of creates and of updates are written in the order they came in
+    private void flush(final List<PendingWrite> batch) {
+        var start = 0;
+        for (int i = 1; i <= batch.size(); i++) {
+            if (i == batch.size() || batch.get(i).isCreate() != batch.get(start).isCreate()) {
+                flushRun(batch.subList(start, i));
+                start = i;
+            }
+        }
+    }
+
+    private void flushRun(final List<PendingWrite> run) {
+        final var categories = run.stream().map(PendingWrite::category).toList();
+        try {
+            if (run.get(0).isCreate())
+                delegate.createAll(categories);
+            else
+                delegate.updateAll(categories);
+            flushed.increment(run.size());
+        } catch (final RuntimeException batchFailure) {
+            // Retried one by one, so that a single bad write doesn't drop the rest of the batch
+            run.forEach(this::flushAlone);
+        }
+    }
+
+    private void flushAlone(final PendingWrite write) {
+        try {
+            if (write.isCreate())
+                delegate.create(write.category());
+            else
+                delegate.update(write.category());
+            flushed.increment();
+        } catch (final RuntimeException e) {
+            drop(write, e);
+        }
+    }
+
+    private void drop(final PendingWrite write, final Throwable failure) {
+        failed.increment();
+        LOGGER.error("Dropped buffered {} of category {}", write.isCreate() ? "create" : "update",
+                write.category().getId().getValue(), failure);
+    }
+
+    private record PendingWrite(Category category, boolean isCreate, long enqueuedAt) {
+        PendingWrite(final Category category, final boolean isCreate) {
+            this(category, isCreate, System.nanoTime());
+        }
+    }
+}
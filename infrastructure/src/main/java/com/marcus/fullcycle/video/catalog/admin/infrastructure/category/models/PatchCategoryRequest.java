@@ -0,0 +1,47 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category.models;
+
+import com.marcus.fullcycle.video.catalog.admin.application.category.update.PatchCategoryCommand;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The fields of a category to change, among those of
+ * {@link CreateCategoryRequest}. Jackson only calls the setters of the
+ * properties in the body, so a property left out is told apart from one sent
+ * as null: the first keeps its value, the second is cleared. A null
+ * {@code is_active} is ignored.
+ */
+public class PatchCategoryRequest {
+    private String name;
+    private boolean hasName;
+    private String description;
+    private boolean hasDescription;
+    private Boolean active;
+
+    @JsonProperty("name")
+    public void setName(final String name) {
+        this.name = name;
+        this.hasName = true;
+    }
+
+    @JsonProperty("description")
+    public void setDescription(final String description) {
+        this.description = description;
+        this.hasDescription = true;
+    }
+
+    @JsonProperty("is_active")
+    public void setActive(final Boolean active) {
+        this.active = active;
+    }
+
+    public PatchCategoryCommand toCommand(final String id) {
+        var command = PatchCategoryCommand.with(id);
+        if (hasName)
+            command = command.withName(name);
+        if (hasDescription)
+            command = command.withDescription(description);
+        if (active != null)
+            command = command.withActive(active);
+        return command;
+    }
+}
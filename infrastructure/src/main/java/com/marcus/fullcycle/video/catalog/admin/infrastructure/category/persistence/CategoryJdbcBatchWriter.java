@@ -0,0 +1,183 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryField;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
+
+/**
+ * Writes many categories through JDBC batches of {@code batchSize} rows,
+ * which MySQL turns into a single round trip per batch when the connection
+ * has {@code rewriteBatchedStatements=true}. Binds the columns the same way
+ * Hibernate does for {@link CategoryJpaEntity}, see {@link CategoryJdbcMapping}.
+ * Each write joins the caller's transaction or runs in its own, so all of its
+ * batches commit or roll back together.
+ */
+@Component
+public class CategoryJdbcBatchWriter {
+    private static final String INSERT = "INSERT INTO categories (id, name, description, active, created_at, "
+            + "updated_at, deleted_at, name_search, description_search, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE = "UPDATE categories SET name = ?, description = ?, active = ?, "
+            + "updated_at = ?, deleted_at = ?, name_search = ?, description_search = ?, version = version + 1 "
+            + "WHERE id = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public CategoryJdbcBatchWriter(
+            final JdbcTemplate jdbcTemplate,
+            @Value("${categories.bulk.batch-size:500}") final int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("`categories.bulk.batch-size` must be at least 1");
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public void insertAll(final List<Category> categories) {
+        jdbcTemplate.batchUpdate(INSERT, categories, batchSize, (statement, category) -> {
+            statement.setBytes(1, CategoryJdbcMapping.toIdColumn(category.getId()));
+            statement.setString(2, category.getName());
+            statement.setString(3, category.getDescription());
+            statement.setBoolean(4, category.isActive());
+            CategoryJdbcMapping.setInstant(statement, 5, category.getCreatedAt());
+            CategoryJdbcMapping.setInstant(statement, 6, category.getUpdatedAt());
+            CategoryJdbcMapping.setInstant(statement, 7, category.getDeletedAt());
+            statement.setString(8, CategoryJpaEntity.nameSearchOf(category.getName()));
+            statement.setString(9, CategoryJpaEntity.descriptionSearchOf(category.getDescription()));
+            statement.setLong(10, category.getVersion());
+        });
+    }
+
+    /**
+     * Writes the columns of {@code fields} and {@code updated_at} of a single
+     * row if it is still at {@code category}'s version, see
+     * {@link CategoryJpaRepositoryCustom#updateAtVersion}. Returns whether it
+     * was updated.
+     */
+    @Transactional
+    public boolean updateAtVersion(final Category category, final Set<CategoryField> fields) {
+        final var assignments = new ArrayList<String>();
+        final var values = new ArrayList<Object>();
+
+        if (fields.contains(CategoryField.NAME)) {
+            assignments.add("name = ?, name_search = ?");
+            values.add(category.getName());
+            values.add(CategoryJpaEntity.nameSearchOf(category.getName()));
+        }
+        if (fields.contains(CategoryField.DESCRIPTION)) {
+            assignments.add("description = ?, description_search = ?");
+            values.add(category.getDescription());
+            values.add(CategoryJpaEntity.descriptionSearchOf(category.getDescription()));
+        }
+        if (fields.contains(CategoryField.ACTIVE)) {
+            assignments.add("active = ?, deleted_at = ?");
+            values.add(category.isActive());
+            values.add(category.getDeletedAt());
+        }
+        assignments.add("updated_at = ?, version = version + 1");
+        values.add(category.getUpdatedAt());
+        values.add(CategoryJdbcMapping.toIdColumn(category.getId()));
+        values.add(category.getVersion());
+
+        final var sql = "UPDATE categories SET " + String.join(", ", assignments) + " WHERE id = ? AND version = ?";
+        return jdbcTemplate.update(sql, statement -> CategoryJdbcMapping.setValues(statement, values)) > 0;
+    }
+
+    /**
+     * Writes the columns of the fields of {@code patch} and {@code updated_at}
+     * over a single row, whatever its version, see
+     * {@link CategoryJpaRepositoryCustom#patch}. Returns whether the row exists.
+     */
+    @Transactional
+    public boolean patch(final CategoryPatch patch) {
+        final var assignments = new ArrayList<String>();
+        final var values = new ArrayList<Object>();
+
+        if (patch.has(CategoryField.NAME)) {
+            assignments.add("name = ?, name_search = ?");
+            values.add(patch.name());
+            values.add(CategoryJpaEntity.nameSearchOf(patch.name()));
+        }
+        if (patch.has(CategoryField.DESCRIPTION)) {
+            assignments.add("description = ?, description_search = ?");
+            values.add(patch.description());
+            values.add(CategoryJpaEntity.descriptionSearchOf(patch.description()));
+        }
+        if (patch.has(CategoryField.ACTIVE) && patch.active()) {
+            assignments.add("active = TRUE, deleted_at = NULL");
+        } else if (patch.has(CategoryField.ACTIVE)) {
+            // An inactive category keeps the instant it was first deactivated at
+            assignments.add("active = FALSE, deleted_at = COALESCE(deleted_at, ?)");
+            values.add(patch.updatedAt());
+        }
+        assignments.add("updated_at = ?, version = version + 1");
+        values.add(patch.updatedAt());
+        values.add(CategoryJdbcMapping.toIdColumn(patch.id()));
+
+        final var sql = "UPDATE categories SET " + String.join(", ", assignments) + " WHERE id = ?";
+        return jdbcTemplate.update(sql, statement -> CategoryJdbcMapping.setValues(statement, values)) > 0;
+    }
+
+    /**
+     * Updates every row still at its category's version. Returns, in the order
+     * of {@code categories}, whether each row was updated.
+     * <p>
+     * Drivers may report a batched statement as {@link Statement#SUCCESS_NO_INFO}
+     * instead of its count, which doesn't tell a stale version from a written
+     * row. The batch then is rolled back to a savepoint taken before it and run
+     * again one statement at a time, whose counts are always reported.
+     */
+    @Transactional
+    public boolean[] updateAllAtVersion(final List<Category> categories) {
+        return jdbcTemplate.execute((ConnectionCallback<boolean[]>) connection -> {
+            final var savepoint = connection.setSavepoint();
+            final var batches = jdbcTemplate.batchUpdate(
+                    UPDATE, categories, batchSize, CategoryJdbcBatchWriter::bindUpdate);
+            final var counts = Arrays.stream(batches).flatMapToInt(Arrays::stream).toArray();
+
+            final var updated = new boolean[categories.size()];
+            if (Arrays.stream(counts).noneMatch(count -> count == Statement.SUCCESS_NO_INFO)) {
+                connection.releaseSavepoint(savepoint);
+                for (int i = 0; i < updated.length; i++)
+                    updated[i] = counts[i] == 1;
+                return updated;
+            }
+
+            connection.rollback(savepoint);
+            for (int i = 0; i < updated.length; i++) {
+                final var category = categories.get(i);
+                updated[i] = jdbcTemplate.update(UPDATE, statement -> bindUpdate(statement, category)) == 1;
+            }
+            return updated;
+        });
+    }
+
+    private static void bindUpdate(final PreparedStatement statement, final Category category) throws SQLException {
+        statement.setString(1, category.getName());
+        statement.setString(2, category.getDescription());
+        statement.setBoolean(3, category.isActive());
+        CategoryJdbcMapping.setInstant(statement, 4, category.getUpdatedAt());
+        CategoryJdbcMapping.setInstant(statement, 5, category.getDeletedAt());
+        statement.setString(6, CategoryJpaEntity.nameSearchOf(category.getName()));
+        statement.setString(7, CategoryJpaEntity.descriptionSearchOf(category.getDescription()));
+        statement.setBytes(8, CategoryJdbcMapping.toIdColumn(category.getId()));
+        statement.setLong(9, category.getVersion());
+    }
+}
@@ -0,0 +1,107 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryListProjection;
+
+/**
+ * Reads and binds the columns of the categories table over plain JDBC the
+ * same way Hibernate does for {@link CategoryJpaEntity}: ids as BINARY(16) and
+ * instants as UTC timestamps, so rows written one way read the same the other.
+ */
+public final class CategoryJdbcMapping {
+    public static final String COLUMNS = "id, name, description, active, created_at, updated_at, deleted_at, version";
+
+    public static final String LIST_COLUMNS = "id, name, description, active, created_at, deleted_at";
+
+    private static final CategoryIdBinaryConverter ID_CONVERTER = new CategoryIdBinaryConverter();
+
+    private CategoryJdbcMapping() {
+    }
+
+    /**
+     * The category in the current row of a result set of {@link #COLUMNS}.
+     */
+    public static Category toCategory(final ResultSet resultSet) throws SQLException {
+        return Category.with(
+                getId(resultSet),
+                resultSet.getString("name"),
+                resultSet.getString("description"),
+                resultSet.getBoolean("active"),
+                getInstant(resultSet, "created_at"),
+                getInstant(resultSet, "updated_at"),
+                getInstant(resultSet, "deleted_at"),
+                resultSet.getLong("version"));
+    }
+
+    /**
+     * The listing item in the current row of a result set of
+     * {@link #LIST_COLUMNS}.
+     */
+    public static <T> T toListItem(final ResultSet resultSet, final CategoryListProjection<T> projection)
+            throws SQLException {
+        return projection.project(
+                getId(resultSet),
+                resultSet.getString("name"),
+                resultSet.getString("description"),
+                resultSet.getBoolean("active"),
+                getInstant(resultSet, "created_at"),
+                getInstant(resultSet, "deleted_at"));
+    }
+
+    public static CategoryId getId(final ResultSet resultSet) throws SQLException {
+        return ID_CONVERTER.convertToEntityAttribute(resultSet.getBytes("id"));
+    }
+
+    public static Instant getInstant(final ResultSet resultSet, final String column) throws SQLException {
+        final var timestamp = resultSet.getTimestamp(column, utc());
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    /**
+     * The value of the id column for {@code id}, to be bound as is.
+     */
+    public static byte[] toIdColumn(final CategoryId id) {
+        return ID_CONVERTER.convertToDatabaseColumn(id);
+    }
+
+    public static void setInstant(final PreparedStatement statement, final int index, final Instant instant)
+            throws SQLException {
+        if (instant == null)
+            statement.setNull(index, Types.TIMESTAMP);
+        else
+            statement.setTimestamp(index, Timestamp.from(instant), utc());
+    }
+
+    /**
+     * Binds {@code values} from the first placeholder on. Instants are bound
+     * as UTC timestamps; every other value, nulls included, as JdbcTemplate
+     * binds its arguments.
+     */
+    public static void setValues(final PreparedStatement statement, final List<?> values) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            final var value = values.get(i);
+            if (value instanceof Instant instant)
+                setInstant(statement, i + 1, instant);
+            else
+                StatementCreatorUtils.setParameterValue(statement, i + 1, SqlTypeValue.TYPE_UNKNOWN, value);
+        }
+    }
+
+    private static Calendar utc() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+}
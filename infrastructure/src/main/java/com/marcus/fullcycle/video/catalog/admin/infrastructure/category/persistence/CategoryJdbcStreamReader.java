@@ -0,0 +1,46 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence;
+
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+
+/**
+ * Reads the whole categories table through a forward-only, read-only result
+ * set, handing each row over as soon as it arrives, so memory use doesn't
+ * grow with the size of the table. Rows come in primary key order, which
+ * InnoDB reads without sorting.
+ */
+@Component
+public class CategoryJdbcStreamReader {
+    private static final String SELECT_ALL = "SELECT " + CategoryJdbcMapping.COLUMNS + " FROM categories ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public CategoryJdbcStreamReader(
+            final JdbcTemplate jdbcTemplate,
+            @Value("${categories.export.fetch-size:1000}") final int fetchSize) {
+        if (fetchSize < 1)
+            throw new IllegalArgumentException("`categories.export.fetch-size` must be at least 1");
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    public void forEach(final Consumer<Category> action) {
+        jdbcTemplate.query(connection -> {
+            final var statement = connection.prepareStatement(
+                    SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // Connector/J buffers the whole result set unless the fetch size is Integer.MIN_VALUE
+            // (or useCursorFetch=true); other drivers fetch `fetchSize` rows per round trip
+            final var isMySql = connection.getMetaData().getDriverName().contains("MySQL");
+            statement.setFetchSize(isMySql ? Integer.MIN_VALUE : fetchSize);
+            return statement;
+        }, resultSet -> action.accept(CategoryJdbcMapping.toCategory(resultSet)));
+    }
+}
@@ -2,19 +2,34 @@ package com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persist
 
 import java.time.Instant;
 
+import org.springframework.data.domain.Persistable;
+
 import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.SearchTermUtils;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 @Entity
 @Table(name = "categories")
-public class CategoryJpaEntity {
+public class CategoryJpaEntity implements Persistable<CategoryId> {
+    public static final int NAME_SEARCH_LENGTH = 255;
+    public static final int DESCRIPTION_SEARCH_LENGTH = 4000;
+
+    // BINARY(16), see CategoryIdBinaryConverter
     @Id
-    private String id;
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    @Convert(converter = CategoryIdBinaryConverter.class)
+    private CategoryId id;
 
     @Column(name = "name", nullable = false)
     private String name;
@@ -37,17 +52,34 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", nullable = true, columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    // Normalized copies of name and description used by searches, see SearchTermUtils
+    @Column(name = "name_search", length = NAME_SEARCH_LENGTH)
+    private String nameSearch;
+
+    @Column(name = "description_search", length = DESCRIPTION_SEARCH_LENGTH)
+    private String descriptionSearch;
+
+    // Only changed by CategoryJpaRepository#updateAtVersion
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // The id is assigned by the application, so Spring Data can't tell a new
+    // entity from a detached one by itself, see isNew()
+    @Transient
+    private boolean isNew;
+
     public CategoryJpaEntity() {
     }
 
     private CategoryJpaEntity(
-            final String id,
+            final CategoryId id,
             final String name,
             final String description,
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt) {
+            final Instant deletedAt,
+            final long version) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -55,23 +87,70 @@ public class CategoryJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category category) {
-        return new CategoryJpaEntity(category.getId().getValue(), category.getName(), category.getDescription(),
-                category.isActive(), category.getCreatedAt(), category.getUpdatedAt(), category.getDeletedAt());
+        return new CategoryJpaEntity(category.getId(), category.getName(), category.getDescription(),
+                category.isActive(), category.getCreatedAt(), category.getUpdatedAt(), category.getDeletedAt(),
+                category.getVersion());
+    }
+
+    /**
+     * Same as {@link #from(Category)}, but marked as new so that saving it
+     * persists it with a single INSERT, instead of merging it, which first
+     * SELECTs the row to find out whether it exists.
+     */
+    public static CategoryJpaEntity newEntity(final Category category) {
+        final var entity = from(category);
+        entity.isNew = true;
+        return entity;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void normalizeSearchColumns() {
+        this.nameSearch = nameSearchOf(name);
+        this.descriptionSearch = descriptionSearchOf(description);
+    }
+
+    /**
+     * The value of the {@code name_search} column of a category named
+     * {@code name}, for writes that don't go through the entity.
+     */
+    public static String nameSearchOf(final String name) {
+        return SearchTermUtils.normalize(name, NAME_SEARCH_LENGTH);
+    }
+
+    /**
+     * The value of the {@code description_search} column, see
+     * {@link #nameSearchOf(String)}.
+     */
+    public static String descriptionSearchOf(final String description) {
+        return SearchTermUtils.normalize(description, DESCRIPTION_SEARCH_LENGTH);
     }
 
     public Category toDomainCategory() {
-        return Category.with(CategoryId.from(getId()), getName(), getDescription(),
-                isActive(), getCreatedAt(), getUpdatedAt(), getDeletedAt());
+        return Category.with(getId(), getName(), getDescription(),
+                isActive(), getCreatedAt(), getUpdatedAt(), getDeletedAt(), getVersion());
     }
 
-    public String getId() {
+    public CategoryId getId() {
         return id;
     }
 
-    public void setId(String id) {
+    public void setId(CategoryId id) {
         this.id = id;
     }
 
@@ -122,4 +201,28 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public String getNameSearch() {
+        return nameSearch;
+    }
+
+    public void setNameSearch(String nameSearch) {
+        this.nameSearch = nameSearch;
+    }
+
+    public String getDescriptionSearch() {
+        return descriptionSearch;
+    }
+
+    public void setDescriptionSearch(String descriptionSearch) {
+        this.descriptionSearch = descriptionSearch;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -1,10 +1,39 @@
 package com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence;
 
+import java.util.Collection;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
 
-public interface CategoryJpaRepository extends JpaRepository<CategoryJpaEntity, String> {
+public interface CategoryJpaRepository
+        extends JpaRepository<CategoryJpaEntity, CategoryId>, CategoryJpaRepositoryCustom {
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
+
+    long count(Specification<CategoryJpaEntity> whereClause);
+
+    /**
+     * A single DELETE, unlike {@code deleteById}, which loads the entity
+     * first. Returns the number of deleted rows.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CategoryJpaEntity c WHERE c.id = :id")
+    int deleteRowById(@Param("id") CategoryId id);
+
+    /**
+     * A single {@code DELETE ... WHERE id IN (...)}. Returns the number of
+     * deleted rows.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CategoryJpaEntity c WHERE c.id IN :ids")
+    int deleteRowsById(@Param("ids") Collection<CategoryId> ids);
 }
@@ -0,0 +1,53 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryField;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryListProjection;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
+
+/**
+ * Queries that Spring Data can't derive on its own. Implemented by
+ * {@link CategoryJpaRepositoryCustomImpl} and exposed through
+ * {@link CategoryJpaRepository}.
+ */
+public interface CategoryJpaRepositoryCustom {
+    /**
+     * Fetches at most {@code limit} rows starting at {@code offset} without
+     * issuing the {@code COUNT(*)} query that comes with a {@code Page}.
+     */
+    List<CategoryJpaEntity> findSlice(Specification<CategoryJpaEntity> whereClause, Sort sort, long offset, int limit);
+
+    /**
+     * Same rows as {@link #findSlice}, but only selects the columns of a
+     * listing and hands them to {@code projection}. No entity is created, so
+     * nothing enters the persistence context.
+     */
+    <T> List<T> findSlice(
+            Specification<CategoryJpaEntity> whereClause,
+            Sort sort,
+            long offset,
+            int limit,
+            CategoryListProjection<T> projection);
+
+    /**
+     * Writes the columns of {@code fields} and {@code updatedAt} from
+     * {@code category} over its row and increments the version, in a single
+     * UPDATE that only matches the row while it is still at
+     * {@code category}'s version. Returns the number of updated rows, so 0
+     * means the row was changed or deleted in the meantime.
+     */
+    int updateAtVersion(CategoryJpaEntity category, Set<CategoryField> fields);
+
+    /**
+     * Writes the columns of the fields of {@code patch} and its
+     * {@code updatedAt} over the row of its category, whatever its version,
+     * and increments the version, in a single UPDATE. Returns the number of
+     * updated rows, so 0 means there is no such row.
+     */
+    int patch(CategoryPatch patch);
+}
@@ -0,0 +1,183 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryField;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryListProjection;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+public class CategoryJpaRepositoryCustomImpl implements CategoryJpaRepositoryCustom {
+    private final EntityManager entityManager;
+
+    public CategoryJpaRepositoryCustomImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<CategoryJpaEntity> findSlice(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Sort sort,
+            final long offset,
+            final int limit) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final var criteria = builder.createQuery(CategoryJpaEntity.class);
+        final var root = criteria.from(CategoryJpaEntity.class);
+
+        where(criteria, root, builder, whereClause);
+        criteria.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        return entityManager.createQuery(criteria)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public <T> List<T> findSlice(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Sort sort,
+            final long offset,
+            final int limit,
+            final CategoryListProjection<T> projection) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final var criteria = builder.createQuery(Object[].class);
+        final var root = criteria.from(CategoryJpaEntity.class);
+
+        criteria.multiselect(
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("active"),
+                root.get("createdAt"),
+                root.get("deletedAt"));
+        where(criteria, root, builder, whereClause);
+        criteria.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        return entityManager.createQuery(criteria)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(row -> projection.project(
+                        (CategoryId) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        (Boolean) row[3],
+                        (Instant) row[4],
+                        (Instant) row[5]))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int updateAtVersion(final CategoryJpaEntity category, final Set<CategoryField> fields) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final var update = builder.createCriteriaUpdate(CategoryJpaEntity.class);
+        final var root = update.from(CategoryJpaEntity.class);
+
+        if (fields.contains(CategoryField.NAME)) {
+            update.set("name", category.getName());
+            update.set("nameSearch", category.getNameSearch());
+        }
+        if (fields.contains(CategoryField.DESCRIPTION)) {
+            set(update, root, builder, "description", String.class, category.getDescription());
+            set(update, root, builder, "descriptionSearch", String.class, category.getDescriptionSearch());
+        }
+        if (fields.contains(CategoryField.ACTIVE)) {
+            update.set("active", category.isActive());
+            set(update, root, builder, "deletedAt", Instant.class, category.getDeletedAt());
+        }
+
+        final var version = root.<Long>get("version");
+        update.set("updatedAt", category.getUpdatedAt())
+                .set(version, builder.sum(version, 1L))
+                .where(
+                        builder.equal(root.get("id"), category.getId()),
+                        builder.equal(version, category.getVersion()));
+
+        // Like @Modifying(flushAutomatically = true, clearAutomatically = true) on the other writes
+        entityManager.flush();
+        final var updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int patch(final CategoryPatch patch) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final var update = builder.createCriteriaUpdate(CategoryJpaEntity.class);
+        final var root = update.from(CategoryJpaEntity.class);
+
+        if (patch.has(CategoryField.NAME)) {
+            set(update, root, builder, "name", String.class, patch.name());
+            set(update, root, builder, "nameSearch", String.class, CategoryJpaEntity.nameSearchOf(patch.name()));
+        }
+        if (patch.has(CategoryField.DESCRIPTION)) {
+            set(update, root, builder, "description", String.class, patch.description());
+            set(update, root, builder, "descriptionSearch", String.class,
+                    CategoryJpaEntity.descriptionSearchOf(patch.description()));
+        }
+        if (patch.has(CategoryField.ACTIVE)) {
+            final var deletedAt = root.<Instant>get("deletedAt");
+            update.set("active", patch.active());
+            // An inactive category keeps the instant it was first deactivated at
+            if (patch.active())
+                update.set(deletedAt, builder.nullLiteral(Instant.class));
+            else
+                update.set(deletedAt, builder.coalesce(deletedAt, patch.updatedAt()));
+        }
+
+        final var version = root.<Long>get("version");
+        update.set("updatedAt", patch.updatedAt())
+                .set(version, builder.sum(version, 1L))
+                .where(builder.equal(root.get("id"), patch.id()));
+
+        entityManager.flush();
+        final var updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    // A null is set as a typed literal, as there is no type to bind a null parameter with
+    private static <Y> void set(
+            final CriteriaUpdate<CategoryJpaEntity> update,
+            final Root<CategoryJpaEntity> root,
+            final CriteriaBuilder builder,
+            final String attribute,
+            final Class<Y> type,
+            final Y value) {
+        final var path = root.<Y>get(attribute);
+        if (value == null)
+            update.set(path, builder.nullLiteral(type));
+        else
+            update.set(path, value);
+    }
+
+    private static void where(
+            final CriteriaQuery<?> criteria,
+            final Root<CategoryJpaEntity> root,
+            final CriteriaBuilder builder,
+            final Specification<CategoryJpaEntity> whereClause) {
+        if (whereClause == null)
+            return;
+
+        final var predicate = whereClause.toPredicate(root, criteria, builder);
+        if (predicate != null)
+            criteria.where(predicate);
+    }
+}
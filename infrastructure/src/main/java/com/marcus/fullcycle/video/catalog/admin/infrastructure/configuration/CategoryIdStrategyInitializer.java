@@ -0,0 +1,26 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.configuration;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryIdStrategy;
+
+/**
+ * Applies {@code categories.id-strategy} to {@link CategoryId#unique()} once
+ * the configuration is read and before any bean is created, so no id can be
+ * generated with another strategy. Registered in {@code META-INF/spring.factories},
+ * which makes it run for the application and for every test context alike.
+ */
+public class CategoryIdStrategyInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+    private static final String PROPERTY = "categories.id-strategy";
+
+    // Same as CategoryId's own default, for contexts that don't set the property
+    private static final String DEFAULT_STRATEGY = "time-ordered";
+
+    @Override
+    public void initialize(final ConfigurableApplicationContext context) {
+        final var strategy = context.getEnvironment().getProperty(PROPERTY, DEFAULT_STRATEGY);
+        CategoryId.useStrategy(CategoryIdStrategy.of(strategy));
+    }
+}
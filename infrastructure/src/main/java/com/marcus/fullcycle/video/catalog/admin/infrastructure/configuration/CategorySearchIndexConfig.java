@@ -0,0 +1,30 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.CategoryMemoryIndexes;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.CategoryNameSuggestions;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.CategoryTrigramIndex;
+
+/**
+ * The indexes are created empty: {@link CategoryMemoryIndexes} loads all of
+ * the enabled ones in a single pass over the table.
+ */
+@Configuration
+public class CategorySearchIndexConfig {
+    @Bean
+    @ConditionalOnProperty(name = "categories.search.trigram-index.enabled", havingValue = "true")
+    public CategoryTrigramIndex categoryTrigramIndex(
+            @Value("${categories.search.trigram-index.max-matches:1000}") final int maxMatches) {
+        return new CategoryTrigramIndex(maxMatches);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "categories.search.suggestions.enabled", havingValue = "true")
+    public CategoryNameSuggestions categoryNameSuggestions() {
+        return new CategoryNameSuggestions();
+    }
+}
@@ -0,0 +1,51 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.GroupCommitCategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.WriteBehindCategoryRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Puts a decorator in front of the repository engine picked by
+ * {@code categories.repository.engine} as the {@link CategoryRepository} used
+ * by the application, according to {@code categories.write.mode}. With
+ * {@code direct}, the default, none is.
+ */
+@Configuration
+public class CategoryWriteConfig {
+    private static final String MODE = "categories.write.mode";
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    @ConditionalOnProperty(name = MODE, havingValue = "group-commit")
+    public GroupCommitCategoryRepository groupCommitCategoryRepository(
+            final CategoryRepository delegate,
+            final PlatformTransactionManager transactionManager,
+            @Value("${categories.write.group-commit.window-millis:5}") final long windowMillis,
+            @Value("${categories.write.group-commit.max-batch-size:100}") final int maxBatchSize,
+            @Value("${categories.write.group-commit.await-timeout-millis:5000}") final long awaitTimeoutMillis) {
+        return new GroupCommitCategoryRepository(delegate, new TransactionTemplate(transactionManager),
+                windowMillis, maxBatchSize, awaitTimeoutMillis);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    @ConditionalOnProperty(name = MODE, havingValue = "write-behind")
+    public WriteBehindCategoryRepository writeBehindCategoryRepository(
+            final CategoryRepository delegate,
+            final MeterRegistry registry,
+            @Value("${categories.write.write-behind.capacity:10000}") final int capacity,
+            @Value("${categories.write.write-behind.batch-size:500}") final int batchSize,
+            @Value("${categories.write.write-behind.flush-interval-millis:200}") final long flushIntervalMillis) {
+        return new WriteBehindCategoryRepository(delegate, capacity, batchSize, flushIntervalMillis, registry);
+    }
+}
@@ -0,0 +1,31 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.configuration;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.ParallelQueryExecutor;
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "categories.pagination.parallel-count.enabled", havingValue = "true")
+public class ParallelQueryConfig {
+    // Used when the DataSource isn't a Hikari pool, matches `maximum-pool-size` in application.yml
+    private static final int DEFAULT_POOL_SIZE = 20;
+
+    @Bean(destroyMethod = "close")
+    public ParallelQueryExecutor parallelQueryExecutor(
+            final DataSource dataSource,
+            @Value("${categories.pagination.parallel-count.pool-fraction:0.25}") final double poolFraction)
+            throws SQLException {
+        final var poolSize = dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                : DEFAULT_POOL_SIZE;
+        return ParallelQueryExecutor.forPool(poolSize, poolFraction);
+    }
+}
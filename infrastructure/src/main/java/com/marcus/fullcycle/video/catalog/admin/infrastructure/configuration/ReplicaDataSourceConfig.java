@@ -0,0 +1,61 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.configuration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource.ReadYourWritesFilter;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Adds a replica pool next to the `master` one of {@code spring.datasource}
+ * and makes the application's {@link DataSource} route between them, see
+ * {@link ReplicaRoutingDataSource}. Defining a DataSource turns off the one
+ * Spring Boot would create, so the primary pool is built here the same way.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${datasource.replica.url}") final String url,
+            @Value("${datasource.replica.username}") final String username,
+            @Value("${datasource.replica.password}") final String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final DataSource primary,
+            @Qualifier("replicaDataSource") final DataSource replica) {
+        return new ReplicaRoutingDataSource(primary, replica);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${datasource.replica.sticky-window-millis:5000}") final long windowMillis) {
+        return new ReadYourWritesFilter(windowMillis);
+    }
+}
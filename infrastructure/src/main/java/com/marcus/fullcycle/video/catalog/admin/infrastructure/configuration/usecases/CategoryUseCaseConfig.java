@@ -1,26 +1,71 @@
 package com.marcus.fullcycle.video.catalog.admin.infrastructure.configuration.usecases;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.marcus.fullcycle.video.catalog.admin.application.UnitOfWork;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoriesUseCase;
 import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.DefaultCreateCategoriesUseCase;
 import com.marcus.fullcycle.video.catalog.admin.application.category.create.DefaultCreateCategoryUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.DefaultImportCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.ImportCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.delete.DefaultDeleteCategoriesUseCase;
 import com.marcus.fullcycle.video.catalog.admin.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.delete.DeleteCategoriesUseCase;
 import com.marcus.fullcycle.video.catalog.admin.application.category.delete.DeleteCategoryUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.get.GetCategoryOutput;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.suggest.DefaultSuggestCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.update.DefaultPatchCategoryUseCase;
 import com.marcus.fullcycle.video.catalog.admin.application.category.update.DefaultUpdateCategoryUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.update.PatchCategoryUseCase;
 import com.marcus.fullcycle.video.catalog.admin.application.category.update.UpdateCategoryUseCase;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.CachedSearchCategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.ReadThroughCategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource.ReplicaRouting;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class CategoryUseCaseConfig {
     private final CategoryRepository repository;
+    private final UnitOfWork unitOfWork;
 
-    public CategoryUseCaseConfig(final CategoryRepository repository) {
-        this.repository = repository;
+    // The use cases read through the caches enabled under `categories.cache`
+    public CategoryUseCaseConfig(
+            final CategoryRepository repository,
+            final UnitOfWork unitOfWork,
+            final MeterRegistry registry,
+            @Value("${categories.cache.by-id.enabled:false}") final boolean cacheById,
+            @Value("${categories.cache.by-id.maximum-size:10000}") final long cacheMaximumSize,
+            @Value("${categories.cache.by-id.ttl-seconds:60}") final long cacheTtlSeconds,
+            @Value("${categories.cache.search.enabled:false}") final boolean cacheSearches,
+            @Value("${categories.cache.search.maximum-bytes:16777216}") final long searchCacheMaximumBytes,
+            @Value("${categories.cache.search.ttl-seconds:30}") final long searchCacheTtlSeconds,
+            @Value("${datasource.replica.enabled:false}") final boolean replicaEnabled) {
+        final var searched = cacheSearches
+                ? new CachedSearchCategoryRepository(repository, searchCacheMaximumBytes,
+                        Duration.ofSeconds(searchCacheTtlSeconds), registry, replicaEnabled)
+                : repository;
+        this.repository = cacheById
+                ? new ReadThroughCategoryRepository(searched, cacheMaximumSize,
+                        Duration.ofSeconds(cacheTtlSeconds), registry, replicaEnabled)
+                : searched;
+        this.unitOfWork = unitOfWork;
     }
 
     @Bean
@@ -28,23 +73,67 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(repository);
     }
 
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(repository);
+    }
+
+    @Bean
+    public ImportCategoriesUseCase importCategoriesUseCase(
+            @Value("${categories.import.chunk-size:500}") final int chunkSize) {
+        return new DefaultImportCategoriesUseCase(repository, chunkSize);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
-        return new DefaultUpdateCategoryUseCase(repository);
+        return new DefaultUpdateCategoryUseCase(repository, unitOfWork);
+    }
+
+    @Bean
+    public PatchCategoryUseCase patchCategoryUseCase() {
+        return new DefaultPatchCategoryUseCase(repository, unitOfWork);
     }
 
+    // The read-only use cases may be served by the replica, see ReplicaDataSourceConfig
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-        return new DefaultGetCategoryByIdUseCase(repository);
+        final var useCase = new DefaultGetCategoryByIdUseCase(repository, unitOfWork);
+        return new GetCategoryByIdUseCase() {
+            @Override
+            public GetCategoryOutput execute(final String id) {
+                return ReplicaRouting.readOnly(() -> useCase.execute(id));
+            }
+        };
     }
 
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(repository);
+        final var useCase = new DefaultListCategoriesUseCase(repository, unitOfWork);
+        return new ListCategoriesUseCase() {
+            @Override
+            public Pagination<CategoryListOutput> execute(final CategorySearchQuery query) {
+                return ReplicaRouting.readOnly(() -> useCase.execute(query));
+            }
+        };
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(repository);
+    }
+
+    @Bean
+    public SuggestCategoriesUseCase suggestCategoriesUseCase() {
+        return new DefaultSuggestCategoriesUseCase(repository);
     }
 
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(repository);
     }
+
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DefaultDeleteCategoriesUseCase(repository);
+    }
 }
@@ -0,0 +1,88 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Lets a client read its own writes despite the replica lagging behind: a
+ * request that may write gives the client a cookie holding the end of the
+ * stickiness window, and the requests it sends with that cookie until then
+ * are {@linkplain ReplicaRouting#pinToPrimary() pinned to the primary}. The
+ * deadline is in the cookie, so it holds whichever instance serves the next
+ * request.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String COOKIE_NAME = "primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(final long windowMillis) {
+        if (windowMillis < 1)
+            throw new IllegalArgumentException("`windowMillis` must be at least 1");
+
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain chain) throws ServletException, IOException {
+        final var now = System.currentTimeMillis();
+
+        // Set before the chain runs, as the response may be committed by then
+        if (!SAFE_METHODS.contains(request.getMethod()))
+            response.addCookie(stickinessCookie(now + windowMillis));
+
+        if (!isSticky(request, now)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRouting.pinToPrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRouting.unpin();
+        }
+    }
+
+    private Cookie stickinessCookie(final long until) {
+        final var cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.ceil(windowMillis / 1000.0));
+        return cookie;
+    }
+
+    // A deadline further away than one window wasn't set here, so a forged cookie can't pin a client for good
+    private boolean isSticky(final HttpServletRequest request, final long now) {
+        final var cookies = request.getCookies();
+        if (cookies == null)
+            return false;
+
+        return Arrays.stream(cookies)
+                .filter(cookie -> COOKIE_NAME.equals(cookie.getName()))
+                .map(cookie -> deadline(cookie.getValue()))
+                .anyMatch(deadline -> deadline > now && deadline <= now + windowMillis);
+    }
+
+    private static long deadline(final String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Tells {@link ReplicaRoutingDataSource} where the connections of the current
+ * thread go. They go to the replica only inside {@link #readOnly(Supplier)}
+ * and while the thread isn't {@linkplain #pinToPrimary() pinned to the
+ * primary}; everything else, writes included, uses the primary.
+ */
+public final class ReplicaRouting {
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    /**
+     * Runs {@code action}, which must not write, allowing its queries to be
+     * sent to the replica.
+     */
+    public static <T> T readOnly(final Supplier<T> action) {
+        final var previous = READ_ONLY.get();
+        READ_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            restore(READ_ONLY, previous);
+        }
+    }
+
+    /**
+     * Sends every query of the current thread to the primary, read-only ones
+     * included, until {@link #unpin()}, e.g. so that a client reads its own
+     * recent writes, which the replica may not have yet.
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static boolean usesReplica() {
+        return Boolean.TRUE.equals(READ_ONLY.get()) && !isPinnedToPrimary();
+    }
+
+    /**
+     * {@code action}, routed as the current thread is now, to be run on
+     * another thread.
+     */
+    public static <T> Supplier<T> propagate(final Supplier<T> action) {
+        if (!usesReplica())
+            return action;
+
+        return () -> readOnly(action);
+    }
+
+    private static void restore(final ThreadLocal<Boolean> flag, final Boolean previous) {
+        if (previous == null)
+            flag.remove();
+        else
+            flag.set(previous);
+    }
+}
@@ -0,0 +1,32 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Hands out connections of the replica pool to the queries
+ * {@link ReplicaRouting} allows there, and of the primary pool to every
+ * other one. The target is picked when a connection is taken, so a
+ * transaction stays on the pool it started on.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReplicaRoutingDataSource(final DataSource primary, final DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReplicaRouting.usesReplica() ? Target.REPLICA : Target.PRIMARY;
+    }
+}
@@ -0,0 +1,52 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.transaction;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.marcus.fullcycle.video.catalog.admin.application.UnitOfWork;
+
+/**
+ * Runs units of work in Spring transactions. A read-only one makes Hibernate
+ * skip the flush and the snapshots for dirty checking, and marks the JDBC
+ * connection read-only so the driver may optimize for it. Work started inside
+ * an ongoing transaction joins it.
+ * <p>
+ * Rolling back on a result marks the transaction rollback-only on purpose, so
+ * the template rolls it back quietly instead of throwing the
+ * {@code UnexpectedRollbackException} a plain commit would.
+ */
+@Component
+public class TransactionTemplateUnitOfWork implements UnitOfWork {
+    private final TransactionTemplate readWrite;
+    private final TransactionTemplate readOnly;
+
+    public TransactionTemplateUnitOfWork(final PlatformTransactionManager transactionManager) {
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @Override
+    public <T> T execute(final Supplier<T> work) {
+        return readWrite.execute(status -> work.get());
+    }
+
+    @Override
+    public <T> T execute(final Supplier<T> work, final Predicate<? super T> rollbackIf) {
+        return readWrite.execute(status -> {
+            final var result = work.get();
+            if (rollbackIf.test(result))
+                status.setRollbackOnly();
+            return result;
+        });
+    }
+
+    @Override
+    public <T> T executeReadOnly(final Supplier<T> work) {
+        return readOnly.execute(status -> work.get());
+    }
+}
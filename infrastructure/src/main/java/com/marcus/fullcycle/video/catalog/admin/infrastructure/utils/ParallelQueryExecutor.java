@@ -0,0 +1,128 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.utils;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource.ReplicaRouting;
+
+/**
+ * Runs queries on background threads so that a caller can overlap them with
+ * its own query. Each offloaded query holds a connection of its own, so the
+ * number of queries in flight is capped by {@code maxConcurrency}; when the cap
+ * is reached {@link #trySubmit(Supplier)} declines and the caller is expected to
+ * run the query itself. A query runs on the same database as it would have on
+ * the caller's thread, see {@link ReplicaRouting#propagate(Supplier)}.
+ * <p>
+ * A cancelled query gives its permit back once it stops running, or right away
+ * when it hadn't started yet.
+ */
+public final class ParallelQueryExecutor implements AutoCloseable {
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final int maxConcurrency;
+
+    public ParallelQueryExecutor(final int maxConcurrency) {
+        if (maxConcurrency < 1)
+            throw new IllegalArgumentException("`maxConcurrency` must be at least 1");
+
+        final var threadCount = new AtomicInteger();
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.executor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            final var thread = new Thread(runnable, "parallel-query-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sizes the executor as a fraction of a connection pool: a request that
+     * offloads a query holds two connections, so only {@code fraction} of the
+     * pool may be taken by offloaded queries and the rest stays available to
+     * every other request.
+     */
+    public static ParallelQueryExecutor forPool(final int maximumPoolSize, final double fraction) {
+        return new ParallelQueryExecutor(Math.max(1, (int) Math.floor(maximumPoolSize * fraction)));
+    }
+
+    public <T> Optional<Future<T>> trySubmit(final Supplier<T> query) {
+        if (!permits.tryAcquire())
+            return Optional.empty();
+
+        final var routedQuery = ReplicaRouting.propagate(query);
+        // Whoever claims the query first gives the permit back: the query when it ends, or its cancellation
+        final var claimed = new AtomicBoolean();
+        final var task = new FutureTask<T>(() -> {
+            if (!claimed.compareAndSet(false, true))
+                throw new CancellationException();
+            try {
+                return routedQuery.get();
+            } finally {
+                permits.release();
+            }
+        }) {
+            @Override
+            protected void done() {
+                if (isCancelled() && claimed.compareAndSet(false, true))
+                    permits.release();
+            }
+        };
+
+        try {
+            executor.execute(task);
+            return Optional.of(task);
+        } catch (final RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs {@code query} on the caller's thread while {@code pending} runs in
+     * the background. When {@code query} fails nobody will read the result of
+     * {@code pending}, so it is cancelled rather than left holding a connection.
+     */
+    public static <T> T alongside(final Optional<? extends Future<?>> pending, final Supplier<T> query) {
+        try {
+            return query.get();
+        } catch (final RuntimeException | Error e) {
+            pending.ifPresent(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    public static <T> T join(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a parallel query", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,53 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes text for case- and accent-insensitive searches, so that "acao"
+ * matches "Ação". The same normalization must be applied to the stored search
+ * columns and to the search terms.
+ */
+public final class SearchTermUtils {
+    /**
+     * Escape character of the LIKE patterns built by {@link #escapeLike}. Not a
+     * backslash, which MySQL also treats as an escape inside string literals.
+     */
+    public static final char LIKE_ESCAPE = '!';
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private SearchTermUtils() {
+    }
+
+    public static String normalize(final String text) {
+        if (text == null)
+            return null;
+
+        final var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Like {@link #normalize(String)}, cut to at most {@code maxLength} chars
+     * for a column of that length: normalizing may lengthen a text, e.g. "ß"
+     * becomes "SS". Never splits a surrogate pair.
+     */
+    public static String normalize(final String text, final int maxLength) {
+        final var normalized = normalize(text);
+        if (normalized == null || normalized.length() <= maxLength)
+            return normalized;
+
+        final var end = Character.isHighSurrogate(normalized.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return normalized.substring(0, end);
+    }
+
+    /**
+     * Escapes the LIKE wildcards of {@code term} with {@link #LIKE_ESCAPE}, so
+     * that it is matched literally.
+     */
+    public static String escapeLike(final String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
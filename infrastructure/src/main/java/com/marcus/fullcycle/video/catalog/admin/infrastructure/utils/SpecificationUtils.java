@@ -1,5 +1,7 @@
 package com.marcus.fullcycle.video.catalog.admin.infrastructure.utils;
 
+import java.util.Collection;
+
 import org.springframework.data.jpa.domain.Specification;
 
 /**
@@ -15,6 +17,64 @@ public final class SpecificationUtils {
                         like(term));
     }
 
+    /**
+     * {@code prop LIKE '%term%'}. The term is matched literally, wildcards in it
+     * are escaped.
+     */
+    public static <T> Specification<T> contains(final String prop, final String term) {
+        return (root, criteriaQuery, criteriaBuilder) -> criteriaBuilder
+                .like(root.get(prop), "%" + SearchTermUtils.escapeLike(term) + "%", SearchTermUtils.LIKE_ESCAPE);
+    }
+
+    /**
+     * {@code prop LIKE 'term%'}, which an index on {@code prop} can serve with a
+     * range scan. The term is matched literally, wildcards in it are escaped.
+     */
+    public static <T> Specification<T> startsWith(final String prop, final String term) {
+        return (root, criteriaQuery, criteriaBuilder) -> criteriaBuilder
+                .like(root.get(prop), SearchTermUtils.escapeLike(term) + "%", SearchTermUtils.LIKE_ESCAPE);
+    }
+
+    public static <T> Specification<T> equal(final String prop, final Object value) {
+        return (root, criteriaQuery, criteriaBuilder) -> criteriaBuilder.equal(root.get(prop), value);
+    }
+
+    /**
+     * {@code prop IN (values)}; matches nothing when {@code values} is empty.
+     */
+    public static <T> Specification<T> in(final String prop, final Collection<?> values) {
+        return (root, criteriaQuery, criteriaBuilder) -> values.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : root.get(prop).in(values);
+    }
+
+    /**
+     * Matches the rows that come after {@code (value, tieBreakerValue)} when
+     * ordering by {@code prop} and then by {@code tieBreaker}, both in the same
+     * direction. Lets an index on {@code (prop, tieBreaker)} seek straight to
+     * the next page instead of skipping an offset.
+     */
+    public static <T, V extends Comparable<? super V>, K extends Comparable<? super K>> Specification<T> after(
+            final String prop,
+            final V value,
+            final String tieBreaker,
+            final K tieBreakerValue,
+            final boolean descending) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            final var path = root.<V>get(prop);
+            final var tieBreakerPath = root.<K>get(tieBreaker);
+            final var beyond = descending
+                    ? criteriaBuilder.lessThan(path, value)
+                    : criteriaBuilder.greaterThan(path, value);
+            final var tie = criteriaBuilder.and(
+                    criteriaBuilder.equal(path, value),
+                    descending
+                            ? criteriaBuilder.lessThan(tieBreakerPath, tieBreakerValue)
+                            : criteriaBuilder.greaterThan(tieBreakerPath, tieBreakerValue));
+            return criteriaBuilder.or(beyond, tie);
+        };
+    }
+
     private static String like(final String term) {
         return "%" + term.toUpperCase() + "%";
     }
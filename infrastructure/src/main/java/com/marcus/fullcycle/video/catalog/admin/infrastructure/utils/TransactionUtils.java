@@ -0,0 +1,19 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.utils;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+    private TransactionUtils() {
+    }
+
+    /**
+     * Whether the current thread is in a transaction that may have written:
+     * until it commits, its writes are only seen on its own connection. A
+     * read-only transaction has none, so other connections and the in-memory
+     * indexes can answer for it.
+     */
+    public static boolean inWritableTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,98 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Adds uppercased and accent-stripped copies of the searchable columns, written
+ * by the application on every insert/update. Lets searches like "acao" find
+ * "Ação" and, for prefix searches, seek the index instead of scanning the table.
+ * <p>
+ * A Java migration so that existing rows are backfilled with the values the
+ * application wrote when it was released: SQL can't strip every accent the way
+ * {@code SearchTermUtils} does. The normalization and the column lengths are
+ * copied here rather than shared, so that later changes to the application
+ * don't change what this migration does on a fresh database.
+ */
+public class V2__Category_search_columns extends BaseJavaMigration {
+    private static final int BATCH_SIZE = 500;
+    private static final int NAME_SEARCH_LENGTH = 255;
+    private static final int DESCRIPTION_SEARCH_LENGTH = 4000;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private record Row(String id, String name, String description) {
+    }
+
+    @Override
+    public void migrate(final Context context) throws SQLException {
+        final var connection = context.getConnection();
+
+        try (final var statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE categories ADD COLUMN name_search VARCHAR("
+                    + NAME_SEARCH_LENGTH + ") NULL");
+            statement.execute("ALTER TABLE categories ADD COLUMN description_search VARCHAR("
+                    + DESCRIPTION_SEARCH_LENGTH + ") NULL");
+        }
+
+        backfill(connection);
+
+        // description_search is not indexed: InnoDB index keys are limited to 3072 bytes, and
+        // substring searches can't use an index anyway.
+        try (final var statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX idx_categories_name_search ON categories (name_search)");
+        }
+    }
+
+    // Walks the table in id order, a batch at a time, so that it is never read into memory at once
+    private static void backfill(final Connection connection) throws SQLException {
+        try (final var select = connection.prepareStatement(
+                "SELECT id, name, description FROM categories WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE);
+             final var update = connection.prepareStatement(
+                     "UPDATE categories SET name_search = ?, description_search = ? WHERE id = ?")) {
+            var lastId = "";
+            while (true) {
+                final var rows = new ArrayList<Row>(BATCH_SIZE);
+                select.setString(1, lastId);
+                try (final var resultSet = select.executeQuery()) {
+                    while (resultSet.next())
+                        rows.add(new Row(
+                                resultSet.getString("id"),
+                                resultSet.getString("name"),
+                                resultSet.getString("description")));
+                }
+                if (rows.isEmpty())
+                    return;
+
+                for (final var row : rows) {
+                    update.setString(1, normalize(row.name(), NAME_SEARCH_LENGTH));
+                    update.setString(2, normalize(row.description(), DESCRIPTION_SEARCH_LENGTH));
+                    update.setString(3, row.id());
+                    update.addBatch();
+                }
+                update.executeBatch();
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        }
+    }
+
+    // SearchTermUtils.normalize(text, maxLength) as of this version
+    private static String normalize(final String text, final int maxLength) {
+        if (text == null)
+            return null;
+
+        final var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        final var normalized = DIACRITICS.matcher(decomposed).replaceAll("").toUpperCase(Locale.ROOT);
+        if (normalized.length() <= maxLength)
+            return normalized;
+
+        final var end = Character.isHighSurrogate(normalized.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return normalized.substring(0, end);
+    }
+}
@@ -0,0 +1,8 @@
+-- One index per supported sort of the category listing, so that a page is read in index
+-- order instead of sorting the whole table. The id breaks ties, as keyset pagination
+-- orders by (sort, id). MySQL reads the same indexes backwards for descending sorts.
+CREATE INDEX idx_categories_name ON categories (name, id);
+CREATE INDEX idx_categories_created_at ON categories (created_at, id);
+
+-- Listing only active (or inactive) categories, newest or oldest first
+CREATE INDEX idx_categories_active_created_at ON categories (active, created_at, id);
@@ -0,0 +1,20 @@
+-- Stores category ids as the 16 bytes of their UUID instead of 36 characters, which shrinks
+-- the primary key and every secondary index, as InnoDB repeats the primary key in each of them.
+-- The conversion comes from the `id_to_binary` Flyway placeholder: UUID_TO_BIN(id) on MySQL,
+-- a double cast through UUID on H2.
+ALTER TABLE categories ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE categories SET id_bin = ${id_to_binary};
+
+DROP INDEX idx_categories_active_created_at ON categories;
+DROP INDEX idx_categories_created_at ON categories;
+DROP INDEX idx_categories_name ON categories;
+
+ALTER TABLE categories DROP PRIMARY KEY;
+ALTER TABLE categories DROP COLUMN id;
+ALTER TABLE categories RENAME COLUMN id_bin TO id;
+ALTER TABLE categories MODIFY id BINARY(16) NOT NULL;
+ALTER TABLE categories ADD PRIMARY KEY (id);
+
+CREATE INDEX idx_categories_name ON categories (name, id);
+CREATE INDEX idx_categories_created_at ON categories (created_at, id);
+CREATE INDEX idx_categories_active_created_at ON categories (active, created_at, id);
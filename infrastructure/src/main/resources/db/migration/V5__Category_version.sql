@@ -0,0 +1,3 @@
+-- Incremented by every update, which only applies while the row is still at the
+-- version the application read, so concurrent updates can't overwrite each other.
+ALTER TABLE categories ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
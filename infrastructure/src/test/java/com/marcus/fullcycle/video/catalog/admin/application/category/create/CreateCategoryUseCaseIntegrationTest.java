@@ -7,6 +7,7 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.junit.jupiter.api.Assertions;
 import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaRepository;
 import com.marcus.fullcycle.video.catalog.admin.IntegrationTest;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
 
 @IntegrationTest
@@ -37,7 +38,7 @@ public class CreateCategoryUseCaseIntegrationTest {
 
         Assertions.assertEquals(1, jpaRepository.count());
 
-        final var category = jpaRepository.findById(output.id()).get();
+        final var category = jpaRepository.findById(CategoryId.from(output.id())).get();
 
         Assertions.assertEquals(expectedName, category.getName());
         Assertions.assertEquals(expectedDescription, category.getDescription());
@@ -86,7 +87,7 @@ public class CreateCategoryUseCaseIntegrationTest {
 
         Assertions.assertEquals(1, jpaRepository.count());
 
-        final var category = jpaRepository.findById(output.id()).get();
+        final var category = jpaRepository.findById(CategoryId.from(output.id())).get();
 
         Assertions.assertEquals(expectedName, category.getName());
         Assertions.assertEquals(expectedDescription, category.getDescription());
@@ -0,0 +1,47 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.marcus.fullcycle.video.catalog.admin.IntegrationTest;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaRepository;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.ParallelQueryExecutor;
+
+@IntegrationTest
+@TestPropertySource(properties = "categories.pagination.parallel-count.enabled=true")
+public class ListCategoriesWithParallelCountIntegrationTest {
+    @Autowired
+    private ListCategoriesUseCase useCase;
+
+    @Autowired
+    private CategoryJpaRepository jpaRepository;
+
+    @Autowired
+    private ParallelQueryExecutor parallelQueryExecutor;
+
+    @Test
+    public void givenParallelCountEnabled_whenCallsListCategories_shouldReturnPageAndTotal() {
+        jpaRepository.saveAllAndFlush(Stream.of(
+                Category.newCategory("Movies", null, true),
+                Category.newCategory("Netflix Originals", "Netflix authored titles", true),
+                Category.newCategory("Amazon Originals", "Amazon authored titles", true))
+                .map(CategoryJpaEntity::from)
+                .toList());
+
+        final var result = useCase.execute(new CategorySearchQuery(0, 1, "originals", "name", "asc"));
+
+        Assertions.assertEquals(2, result.total());
+        Assertions.assertEquals(1, result.items().size());
+        Assertions.assertEquals("Amazon Originals", result.items().get(0).name());
+        Assertions.assertTrue(result.hasNext());
+        Assertions.assertEquals(parallelQueryExecutor.getMaxConcurrency(),
+                parallelQueryExecutor.getAvailablePermits());
+    }
+}
@@ -0,0 +1,58 @@
+package com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.marcus.fullcycle.video.catalog.admin.IntegrationTest;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.CategoryTrigramIndex;
+
+@IntegrationTest
+@TestPropertySource(properties = "categories.search.trigram-index.enabled=true")
+public class ListCategoriesWithTrigramIndexIntegrationTest {
+    @Autowired
+    private ListCategoriesUseCase useCase;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryTrigramIndex index;
+
+    @BeforeEach
+    void cleanUp() {
+        index.clear();
+    }
+
+    @Test
+    public void givenIndexedCategories_whenCallsListCategoriesWithTerms_shouldReturnMatchesFromTheIndex() {
+        categoryRepository.create(Category.newCategory("Movies", null, true));
+        categoryRepository.create(Category.newCategory("Netflix Originals", "Netflix authored titles", true));
+        categoryRepository.create(Category.newCategory("Amazon Originals", "Amazon authored titles", true));
+
+        Assertions.assertEquals(3, index.size());
+
+        final var result = useCase.execute(new CategorySearchQuery(0, 1, "originals", "name", "asc"));
+
+        Assertions.assertEquals(2, result.total());
+        Assertions.assertEquals(1, result.items().size());
+        Assertions.assertEquals("Amazon Originals", result.items().get(0).name());
+    }
+
+    @Test
+    public void givenAnUpdatedAndADeletedCategory_whenCallsListCategoriesWithTerms_shouldSeeTheChanges() {
+        final var movies = categoryRepository.create(Category.newCategory("Movies", null, true));
+        final var series = categoryRepository.create(Category.newCategory("Movie series", null, true));
+
+        categoryRepository.update(series.clone().update("Series", null, true));
+        categoryRepository.deleteById(movies.getId());
+
+        Assertions.assertEquals(0, useCase.execute(new CategorySearchQuery(0, 10, "movie", "name", "asc")).total());
+        Assertions.assertEquals(1, useCase.execute(new CategorySearchQuery(0, 10, "series", "name", "asc")).total());
+    }
+}
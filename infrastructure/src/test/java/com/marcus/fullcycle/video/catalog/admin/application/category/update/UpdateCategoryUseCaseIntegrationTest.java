@@ -50,9 +50,9 @@ public class UpdateCategoryUseCaseIntegrationTest {
         Assertions.assertNotNull(output);
         Assertions.assertNotNull(output.id());
 
-        final var updatedCategory = jpaRepository.findById(output.id().getValue()).get();
+        final var updatedCategory = jpaRepository.findById(output.id()).get();
 
-        Assertions.assertEquals(id.getValue(), updatedCategory.getId());
+        Assertions.assertEquals(id, updatedCategory.getId());
         Assertions.assertEquals(expectedName, updatedCategory.getName());
         Assertions.assertEquals(expectedDescription, updatedCategory.getDescription());
         Assertions.assertEquals(expectedIsActive, updatedCategory.isActive());
@@ -114,9 +114,9 @@ public class UpdateCategoryUseCaseIntegrationTest {
         Assertions.assertNotNull(output);
         Assertions.assertNotNull(output.id());
 
-        final var updatedCategory = jpaRepository.findById(output.id().getValue()).get();
+        final var updatedCategory = jpaRepository.findById(output.id()).get();
 
-        Assertions.assertEquals(id.getValue(), updatedCategory.getId());
+        Assertions.assertEquals(id, updatedCategory.getId());
         Assertions.assertEquals(expectedName, updatedCategory.getName());
         Assertions.assertEquals(expectedDescription, updatedCategory.getDescription());
         Assertions.assertEquals(expectedIsActive, updatedCategory.isActive());
@@ -153,9 +153,9 @@ public class UpdateCategoryUseCaseIntegrationTest {
         Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
 
-        final var untouchedCategory = jpaRepository.findById(id.getValue()).get();
+        final var untouchedCategory = jpaRepository.findById(id).get();
 
-        Assertions.assertEquals(id.getValue(), untouchedCategory.getId());
+        Assertions.assertEquals(id, untouchedCategory.getId());
         Assertions.assertEquals(expectedName, untouchedCategory.getName());
         Assertions.assertEquals(expectedDescription, untouchedCategory.getDescription());
         Assertions.assertEquals(expectedIsActive, untouchedCategory.isActive());
@@ -1,8 +1,12 @@
 package com.marcus.fullcycle.video.catalog.admin.infrastructure.api;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,11 +18,28 @@ import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.marcus.fullcycle.video.catalog.admin.ControllerTest;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryField;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchMode;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
 import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
 import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
 import com.marcus.fullcycle.video.catalog.admin.domain.validation.handler.Notification;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoriesUseCase;
 import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoryOutput;
 import com.marcus.fullcycle.video.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.ImportCategoriesCommand;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.ImportCategoriesOutput;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.ImportCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.ImportCategoryRejection;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.suggest.CategorySuggestionOutput;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
+import com.marcus.fullcycle.video.catalog.admin.application.category.update.PatchCategoryOutput;
+import com.marcus.fullcycle.video.catalog.admin.application.category.update.PatchCategoryUseCase;
 import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -35,6 +56,24 @@ public class CategoryApiTest {
     @MockBean
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
+    @MockBean
+    private ImportCategoriesUseCase importCategoriesUseCase;
+
+    @MockBean
+    private PatchCategoryUseCase patchCategoryUseCase;
+
+    @MockBean
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @MockBean
+    private SuggestCategoriesUseCase suggestCategoriesUseCase;
+
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         // given
@@ -101,6 +140,64 @@ public class CategoryApiTest {
                         && Objects.equals(expectedIsActive, cmd.isActive())));
     }
 
+    @Test
+    public void givenValidCommands_whenCallsCreateCategories_shouldReturnCategoryIds() throws Exception {
+        // given
+        final var input = List.of(
+                new CreateCategoryRequest("Movies", "Most watched category", true),
+                new CreateCategoryRequest("Series", null, null));
+
+        Mockito.when(createCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(List.of(CreateCategoryOutput.from("123"), CreateCategoryOutput.from("456"))));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", Matchers.equalTo("123")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].id", Matchers.equalTo("456")));
+
+        Mockito.verify(createCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(commands -> commands.size() == 2
+                        && Objects.equals("Movies", commands.get(0).name())
+                        && Objects.equals("Series", commands.get(1).name())
+                        && commands.get(1).isActive()));
+    }
+
+    @Test
+    public void givenAnInvalidCommand_whenCallsCreateCategories_thenShouldReturnOneNotificationPerItem()
+            throws Exception {
+        // given
+        final var expectedMessage = "'name' should not be null";
+        final var input = List.of(
+                new CreateCategoryRequest("Movies", null, true),
+                new CreateCategoryRequest(null, null, true));
+
+        Mockito.when(createCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(API.Left(List.of(Notification.create(), Notification.create(new Error(expectedMessage)))));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].errors", Matchers.hasSize(0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].errors[0].message", Matchers.equalTo(expectedMessage)));
+    }
+
     @Test
     public void givenAnInvalidCommand_whenCallsCreateCategory_thenShouldReturnDomainException() throws Exception {
         // given
@@ -135,4 +232,385 @@ public class CategoryApiTest {
                         && Objects.equals(expectedDescription, cmd.description())
                         && Objects.equals(expectedIsActive, cmd.isActive())));
     }
+
+    @Test
+    public void givenOnlyTheActiveFlag_whenCallsPatchCategory_shouldOnlyPatchIt() throws Exception {
+        // given
+        final var expectedId = "123";
+
+        Mockito.when(patchCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(PatchCategoryOutput.from(expectedId)));
+
+        // when
+        final var request = MockMvcRequestBuilders.patch("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"is_active\": false}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId)));
+
+        Mockito.verify(patchCategoryUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(cmd -> Objects.equals(expectedId, cmd.id())
+                        && Objects.equals(Set.of(CategoryField.ACTIVE), cmd.fields())
+                        && !cmd.isActive()));
+    }
+
+    @Test
+    public void givenANullDescription_whenCallsPatchCategory_shouldClearIt() throws Exception {
+        // given
+        final var expectedName = "Movies";
+
+        Mockito.when(patchCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(PatchCategoryOutput.from("123")));
+
+        // when
+        final var request = MockMvcRequestBuilders.patch("/categories/{id}", "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Movies\", \"description\": null}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(patchCategoryUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(cmd -> Objects.equals(expectedName, cmd.name())
+                        && cmd.description() == null
+                        && Objects.equals(Set.of(CategoryField.NAME, CategoryField.DESCRIPTION), cmd.fields())));
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsPatchCategory_shouldReturnNotification() throws Exception {
+        // given
+        final var expectedMessage = "`name` should not be null";
+
+        Mockito.when(patchCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Left(Notification.create(new Error(expectedMessage))));
+
+        // when
+        final var request = MockMvcRequestBuilders.patch("/categories/{id}", "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": null}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].message", Matchers.equalTo(expectedMessage)));
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsPatchCategory_shouldReturnDomainException() throws Exception {
+        // given
+        final var expectedMessage = "Category with ID 123 was not found";
+
+        Mockito.when(patchCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(DomainException.with(new Error(expectedMessage)));
+
+        // when
+        final var request = MockMvcRequestBuilders.patch("/categories/{id}", "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"is_active\": true}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedMessage)));
+    }
+
+    @Test
+    public void givenACursor_whenCallsListCategories_thenShouldReturnNextCursor() throws Exception {
+        // given
+        final var category = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedCursor = "bmFtZXxhc2N8MXxNb3ZpZXM";
+        final var expectedNext = "bmFtZXxhc2N8MnxTZXJpZXM";
+        final var expectedPerPage = 1;
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, Pagination.UNKNOWN_TOTAL,
+                        List.of(CategoryListOutput.from(category)), expectedNext));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("cursor", expectedCursor)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.perPage", Matchers.equalTo(expectedPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].name", Matchers.equalTo("Movies")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next", Matchers.equalTo(expectedNext)));
+
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(query -> Objects.equals(expectedCursor, query.cursor())
+                        && Objects.equals(expectedPerPage, query.perPage())
+                        && Objects.equals("name", query.sort())
+                        && Objects.equals("asc", query.direction())));
+    }
+
+    @Test
+    public void givenWithTotalFalse_whenCallsListCategories_thenShouldReturnHasNextWithoutTotal() throws Exception {
+        // given
+        final var category = Category.newCategory("Movies", "Most watched category", true);
+        final var expectedPage = 2;
+        final var expectedPerPage = 1;
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, Pagination.UNKNOWN_TOTAL,
+                        List.of(CategoryListOutput.from(category)), null, true));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("page", String.valueOf(expectedPage))
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("withTotal", "false")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.page", Matchers.equalTo(expectedPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo(-1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", Matchers.equalTo(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(1)));
+
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(query -> !query.withTotal()
+                        && !query.isCursorPaged()
+                        && Objects.equals(expectedPage, query.page())));
+    }
+
+    @Test
+    public void givenPrefixSearchMode_whenCallsListCategories_shouldForwardTheMode() throws Exception {
+        // given
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("search", "acao")
+                .queryParam("searchMode", "PREFIX")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(query -> CategorySearchMode.PREFIX == query.searchMode()
+                        && Objects.equals("acao", query.terms())));
+    }
+
+    @Test
+    public void givenAnInvalidSearchMode_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "`fuzzy` is not a valid search mode";
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("searchMode", "fuzzy")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].message", Matchers.equalTo(expectedErrorMessage)));
+
+        Mockito.verify(listCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsSuggestCategories_shouldReturnSuggestions() throws Exception {
+        // given
+        final var expectedPrefix = "mov";
+        final var expectedLimit = 5;
+
+        Mockito.when(suggestCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(List.of(
+                        new CategorySuggestionOutput(CategoryId.unique(), "Movies"),
+                        new CategorySuggestionOutput(CategoryId.unique(), "Movies for kids")));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories/suggest")
+                .queryParam("prefix", expectedPrefix)
+                .queryParam("limit", String.valueOf(expectedLimit));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name", Matchers.equalTo("Movies")));
+
+        Mockito.verify(suggestCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(command -> Objects.equals(expectedPrefix, command.prefix())
+                        && Objects.equals(expectedLimit, command.limit())));
+    }
+
+    @Test
+    public void givenACsvBody_whenCallsImportCategories_shouldStreamRejectionsAndASummary() throws Exception {
+        // given
+        final var expectedErrorMessage = "`name` should not be null";
+        final var body = "name,description\nMovies,Most watched category\n,Nameless\n";
+
+        Mockito.when(importCategoriesUseCase.execute(Mockito.any()))
+                .thenAnswer(invocation -> {
+                    final ImportCategoriesCommand command = invocation.getArgument(0);
+                    var imported = 0;
+                    while (command.lines().hasNext()) {
+                        final var line = command.lines().next();
+                        if (line.command().name() != null)
+                            imported++;
+                        else
+                            command.rejections().accept(ImportCategoryRejection.from(
+                                    line.number(), Notification.create(new Error(expectedErrorMessage))));
+                    }
+                    return ImportCategoriesOutput.from(imported, 1);
+                });
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .contentType("text/csv")
+                .content(body);
+
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON));
+
+        final var lines = response.andReturn().getResponse().getContentAsString().split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals(3, mapper.readTree(lines[0]).get("line").asLong());
+        Assertions.assertEquals(expectedErrorMessage,
+                mapper.readTree(lines[0]).get("errors").get(0).get("message").asText());
+        Assertions.assertEquals(1, mapper.readTree(lines[1]).get("imported").asLong());
+        Assertions.assertEquals(1, mapper.readTree(lines[1]).get("rejected").asLong());
+    }
+
+    @Test
+    public void givenAnUnsupportedContentType_whenCallsImportCategories_shouldReturnUnsupportedMediaType()
+            throws Exception {
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/import")
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<categories/>");
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isUnsupportedMediaType());
+
+        Mockito.verify(importCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenCategories_whenCallsExportCategories_shouldStreamOneJsonObjectPerLine() throws Exception {
+        // given
+        final var movies = Category.newCategory("Movies", "Most watched category", true);
+        final var series = Category.newCategory("Series", null, false);
+
+        Mockito.doAnswer(invocation -> {
+            final Consumer<CategoryListOutput> output = invocation.getArgument(0);
+            output.accept(CategoryListOutput.from(movies));
+            output.accept(CategoryListOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(Mockito.any(Consumer.class));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories/export");
+
+        final var asyncResult = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON));
+
+        final var lines = response.andReturn().getResponse().getContentAsString().split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals("Movies", mapper.readTree(lines[0]).get("name").asText());
+        Assertions.assertEquals("Most watched category", mapper.readTree(lines[0]).get("description").asText());
+        Assertions.assertEquals("Series", mapper.readTree(lines[1]).get("name").asText());
+
+        Mockito.verify(exportCategoriesUseCase, Mockito.times(1)).execute(Mockito.any(Consumer.class));
+    }
+
+    @Test
+    public void givenAnUnsupportedSort_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "`description` is not a sortable field";
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("sort", "description")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
+
+        Mockito.verify(listCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenAnActiveFilter_whenCallsListCategories_shouldForwardIt() throws Exception {
+        // given
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("sort", "createdAt")
+                .queryParam("dir", "desc")
+                .queryParam("active", "true")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1))
+                .execute(Mockito.argThat(query -> Boolean.TRUE.equals(query.active())
+                        && Objects.equals("createdAt", query.sort())));
+    }
 }
@@ -0,0 +1,151 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryListProjection;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource.ReplicaRouting;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CachedSearchCategoryRepositoryTest {
+    private CategoryRepository delegate;
+    private SimpleMeterRegistry registry;
+    private CachedSearchCategoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryRepository.class);
+        registry = new SimpleMeterRegistry();
+        repository = new CachedSearchCategoryRepository(delegate, 1024 * 1024, Duration.ofMinutes(1), registry, false);
+    }
+
+    @Test
+    public void givenTheSameSearchTwice_whenCallsFindAll_shouldServeTheSecondFromMemory() {
+        final var category = Category.newCategory("Ação", null, true);
+        Mockito.when(delegate.findAll(Mockito.<CategorySearchQuery>any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(category)));
+
+        final var first = repository.findAll(new CategorySearchQuery(0, 10, "Ação", "name", "asc"));
+        final var second = repository.findAll(new CategorySearchQuery(0, 10, "acao", "name", "asc"));
+
+        Mockito.verify(delegate, Mockito.times(1)).findAll(Mockito.<CategorySearchQuery>any());
+        Assertions.assertEquals(1, second.total());
+        Assertions.assertEquals("Ação", second.items().get(0).getName());
+        Assertions.assertNotSame(first.items().get(0), second.items().get(0));
+        Assertions.assertEquals(1, registry.get("cache.gets").tags("cache", "categories.search", "result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    public void givenTwoProjections_whenCallsFindAll_shouldShareTheCachedRows() {
+        final var category = Category.newCategory("Movies", "Most watched category", true);
+        stubListing(category);
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        final var names = repository.findAll(query, (id, name, description, active, createdAt, deletedAt) -> name);
+        final var ids = repository.findAll(query, (id, name, description, active, createdAt, deletedAt) -> id);
+
+        Assertions.assertEquals(List.of("Movies"), names.items());
+        Assertions.assertEquals(List.of(category.getId()), ids.items());
+        Mockito.verify(delegate, Mockito.times(1))
+                .findAll(Mockito.<CategorySearchQuery>any(), Mockito.<CategoryListProjection<?>>any());
+    }
+
+    @Test
+    public void givenACachedPage_whenAnyWriteHappens_shouldReadItAgain() {
+        final var category = Category.newCategory("Movies", null, true);
+        stubListing(category);
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        repository.findAll(query, (id, name, description, active, createdAt, deletedAt) -> name);
+        repository.deleteById(category.getId());
+        repository.findAll(query, (id, name, description, active, createdAt, deletedAt) -> name);
+
+        Mockito.verify(delegate, Mockito.times(2))
+                .findAll(Mockito.<CategorySearchQuery>any(), Mockito.<CategoryListProjection<?>>any());
+        Mockito.verify(delegate, Mockito.times(1)).deleteById(category.getId());
+    }
+
+    @Test
+    public void givenDifferentPages_whenCallsFindAll_shouldNotShareThem() {
+        stubListing(Category.newCategory("Movies", null, true));
+
+        repository.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"), (id, name, d, a, c, del) -> name);
+        repository.findAll(new CategorySearchQuery(1, 10, "", "name", "asc"), (id, name, d, a, c, del) -> name);
+
+        Mockito.verify(delegate, Mockito.times(2))
+                .findAll(Mockito.<CategorySearchQuery>any(), Mockito.<CategoryListProjection<?>>any());
+    }
+
+    @Test
+    public void givenAReplica_whenListingAfterAWrite_shouldNeitherCacheTheReplicaNorServePinnedReadsFromMemory() {
+        final var repository = new CachedSearchCategoryRepository(
+                delegate, 1024 * 1024, Duration.ofMinutes(1), registry, true);
+        final var category = Category.newCategory("Movies", null, true);
+        final var updated = category.clone().update("Films", null, true);
+        // The replica still has the old row when read right after the write
+        Mockito.when(delegate.findAll(Mockito.<CategorySearchQuery>any(), Mockito.<CategoryListProjection<?>>any()))
+                .thenAnswer(listing(category))
+                .thenAnswer(listing(category))
+                .thenAnswer(listing(updated));
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final CategoryListProjection<String> names = (id, name, description, active, createdAt, deletedAt) -> name;
+
+        repository.findAll(query, names);
+        repository.update(updated);
+
+        final var fromReplica = ReplicaRouting.readOnly(() -> repository.findAll(query, names));
+        Assertions.assertEquals(List.of("Movies"), fromReplica.items());
+
+        ReplicaRouting.pinToPrimary();
+        try {
+            final var pinned = ReplicaRouting.readOnly(() -> repository.findAll(query, names));
+            Assertions.assertEquals(List.of("Films"), pinned.items());
+        } finally {
+            ReplicaRouting.unpin();
+        }
+
+        Assertions.assertEquals(List.of("Films"), repository.findAll(query, names).items());
+        Mockito.verify(delegate, Mockito.times(4))
+                .findAll(Mockito.<CategorySearchQuery>any(), Mockito.<CategoryListProjection<?>>any());
+    }
+
+    @Test
+    public void givenAReplica_whenCallsFindAllOfCategoriesOnIt_shouldNotCacheThePage() {
+        final var repository = new CachedSearchCategoryRepository(
+                delegate, 1024 * 1024, Duration.ofMinutes(1), registry, true);
+        Mockito.when(delegate.findAll(Mockito.<CategorySearchQuery>any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(Category.newCategory("Movies", null, true))));
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        ReplicaRouting.readOnly(() -> repository.findAll(query));
+        repository.findAll(query);
+
+        Mockito.verify(delegate, Mockito.times(2)).findAll(Mockito.<CategorySearchQuery>any());
+    }
+
+    private void stubListing(final Category category) {
+        Mockito.when(delegate.findAll(Mockito.<CategorySearchQuery>any(), Mockito.<CategoryListProjection<?>>any()))
+                .thenAnswer(listing(category));
+    }
+
+    private static Answer<Pagination<?>> listing(final Category category) {
+        return invocation -> {
+            final CategoryListProjection<?> projection = invocation.getArgument(1);
+            return new Pagination<>(0, 10, 1, List.of(projection.project(category.getId(),
+                    category.getName(), category.getDescription(), category.isActive(),
+                    category.getCreatedAt(), category.getDeletedAt())));
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.marcus.fullcycle.video.catalog.admin.application.category.create.ImportCategoryLine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class CategoryImportReaderTest {
+    @Test
+    public void givenNdjsonLines_whenReading_shouldParseEachOneAndReportMalformedOnes() {
+        final var body = """
+                {"name": "Movies", "description": "Most watched category", "is_active": true}
+
+                {"name": "Series", "is_active": false}
+                {"name": "Broken"
+                {"name": "Documentaries"}
+                """;
+
+        final var lines = readAll(CategoryImportReader.ndjson(stream(body), new ObjectMapper()));
+
+        Assertions.assertEquals(4, lines.size());
+        Assertions.assertEquals(1, lines.get(0).number());
+        Assertions.assertEquals("Movies", lines.get(0).command().name());
+        Assertions.assertEquals("Most watched category", lines.get(0).command().description());
+        Assertions.assertEquals(3, lines.get(1).number());
+        Assertions.assertFalse(lines.get(1).command().isActive());
+        Assertions.assertEquals(4, lines.get(2).number());
+        Assertions.assertTrue(lines.get(2).isMalformed());
+        Assertions.assertEquals(5, lines.get(3).number());
+        Assertions.assertTrue(lines.get(3).command().isActive());
+    }
+
+    @Test
+    public void givenCsvLines_whenReading_shouldMapColumnsByTheHeader() {
+        final var body = "is_active,name,description\r\n"
+                + "false,Movies,\"Most watched, by far\"\r\n"
+                + ",\"Series \"\"TV\"\"\",\r\n"
+                + "maybe,Documentaries,\r\n"
+                + "true,Cartoons\r\n"
+                + "true,\"Unterminated,\r\n";
+
+        final var lines = readAll(CategoryImportReader.csv(stream(body)));
+
+        Assertions.assertEquals(5, lines.size());
+        Assertions.assertEquals(2, lines.get(0).number());
+        Assertions.assertEquals("Movies", lines.get(0).command().name());
+        Assertions.assertEquals("Most watched, by far", lines.get(0).command().description());
+        Assertions.assertFalse(lines.get(0).command().isActive());
+        Assertions.assertEquals("Series \"TV\"", lines.get(1).command().name());
+        Assertions.assertNull(lines.get(1).command().description());
+        Assertions.assertTrue(lines.get(1).command().isActive());
+        Assertions.assertEquals("`is_active` should be true or false", lines.get(2).malformed().message());
+        Assertions.assertEquals("Expected 3 values but got 2", lines.get(3).malformed().message());
+        Assertions.assertEquals("Unterminated quoted value", lines.get(4).malformed().message());
+    }
+
+    @Test
+    public void givenACsvHeaderWithoutName_whenReading_shouldRejectEveryLine() {
+        final var body = "description,is_active\nMost watched category,true\n";
+
+        final var lines = readAll(CategoryImportReader.csv(stream(body)));
+
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertEquals("The header should have a `name` column", lines.get(0).malformed().message());
+        Assertions.assertEquals("Skipped as the header on line 1 is invalid", lines.get(1).malformed().message());
+    }
+
+    @Test
+    public void givenALineLongerThanTheLimit_whenReading_shouldRejectItAndGoOn() {
+        final var body = "name\n" + "a".repeat(CategoryImportReader.MAX_LINE_LENGTH + 1) + "\nMovies";
+
+        final var lines = readAll(CategoryImportReader.csv(stream(body)));
+
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertEquals(2, lines.get(0).number());
+        Assertions.assertTrue(lines.get(0).isMalformed());
+        Assertions.assertEquals(3, lines.get(1).number());
+        Assertions.assertEquals("Movies", lines.get(1).command().name());
+    }
+
+    private static ByteArrayInputStream stream(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<ImportCategoryLine> readAll(final CategoryImportReader reader) {
+        final var lines = new ArrayList<ImportCategoryLine>();
+        reader.forEachRemaining(lines::add);
+        return lines;
+    }
+}
@@ -0,0 +1,90 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.context.TestPropertySource;
+
+import com.marcus.fullcycle.video.catalog.admin.IntegrationTest;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJdbcMapping;
+
+/**
+ * Calls the JDBC engine outside of any transaction, on the pool settings of
+ * production (auto-commit off), and reads the rows back on a connection of
+ * its own: a write that wasn't committed is rolled back when its pooled
+ * connection is returned, and isn't seen there.
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+        "categories.repository.engine=jdbc",
+        "spring.datasource.hikari.auto-commit=false"
+})
+public class CategoryJdbcRepositoryCommitTest {
+    @Autowired
+    private CategoryJdbcRepository jdbcRepository;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldCommitIt() throws SQLException {
+        final var category = Category.newCategory("Movies", "Most watched category", true);
+
+        jdbcRepository.create(category);
+
+        Assertions.assertEquals(Optional.of("Movies"), committedName(category.getId()));
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallsUpdate_shouldCommitIt() throws SQLException {
+        final var category = jdbcRepository.create(Category.newCategory("Movies", null, true));
+
+        jdbcRepository.update(category.clone().update("Films", null, true));
+
+        Assertions.assertEquals(Optional.of("Films"), committedName(category.getId()));
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallsDeleteById_shouldCommitIt() throws SQLException {
+        final var category = jdbcRepository.create(Category.newCategory("Movies", null, true));
+
+        jdbcRepository.deleteById(category.getId());
+
+        Assertions.assertEquals(Optional.empty(), committedName(category.getId()));
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallsDeleteAllById_shouldCommitIt() throws SQLException {
+        final var movies = jdbcRepository.create(Category.newCategory("Movies", null, true));
+        final var series = jdbcRepository.create(Category.newCategory("Series", null, true));
+
+        jdbcRepository.deleteAllById(List.of(movies.getId(), series.getId()));
+
+        Assertions.assertEquals(Optional.empty(), committedName(movies.getId()));
+        Assertions.assertEquals(Optional.empty(), committedName(series.getId()));
+    }
+
+    private Optional<String> committedName(final CategoryId id) throws SQLException {
+        try (final var connection = DriverManager.getConnection(url, username, password);
+             final var statement = connection.prepareStatement("SELECT name FROM categories WHERE id = ?")) {
+            statement.setBytes(1, CategoryJdbcMapping.toIdColumn(id));
+            try (final var resultSet = statement.executeQuery()) {
+                return resultSet.next() ? Optional.of(resultSet.getString("name")) : Optional.empty();
+            }
+        }
+    }
+}
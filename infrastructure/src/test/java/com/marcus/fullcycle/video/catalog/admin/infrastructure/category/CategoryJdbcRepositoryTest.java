@@ -0,0 +1,18 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs the repository contract of {@link CategoryMySqlRepositoryTest} against
+ * the JDBC engine. The tests run outside a transaction so rows seeded through
+ * JPA are in the database when the JDBC queries read them, and rows written
+ * over JDBC aren't hidden by a persistence context shared with the seeding;
+ * {@link com.marcus.fullcycle.video.catalog.admin.CleanUpExtension} empties
+ * the table before each test.
+ */
+@TestPropertySource(properties = "categories.repository.engine=jdbc")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategoryJdbcRepositoryTest extends CategoryMySqlRepositoryTest {
+}
@@ -0,0 +1,49 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJdbcStreamReader;
+
+public class CategoryMemoryIndexesTest {
+    @Test
+    public void givenBothIndexesEnabled_whenCreated_shouldLoadThemInOnePass() {
+        final var searchIndex = new CategoryTrigramIndex(10);
+        final var suggestions = new CategoryNameSuggestions();
+        final var streamReader = Mockito.mock(CategoryJdbcStreamReader.class);
+        Mockito.doAnswer(invocation -> {
+            final Consumer<Category> action = invocation.getArgument(0);
+            action.accept(Category.newCategory("Movies", null, true));
+            action.accept(Category.newCategory("Series", "Watched by episode", true));
+            return null;
+        }).when(streamReader).forEach(Mockito.any());
+
+        new CategoryMemoryIndexes(provider(searchIndex), provider(suggestions), streamReader);
+
+        Mockito.verify(streamReader, Mockito.times(1)).forEach(Mockito.any());
+        Assertions.assertEquals(2, searchIndex.size());
+        Assertions.assertEquals(2, suggestions.size());
+    }
+
+    @Test
+    public void givenNoIndexEnabled_whenCreated_shouldNotReadTheTable() {
+        final var streamReader = Mockito.mock(CategoryJdbcStreamReader.class);
+
+        final var indexes = new CategoryMemoryIndexes(provider(null), provider(null), streamReader);
+
+        Assertions.assertFalse(indexes.isEnabled());
+        Mockito.verifyNoInteractions(streamReader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(final T bean) {
+        final ObjectProvider<T> provider = Mockito.mock(ObjectProvider.class);
+        Mockito.when(provider.getIfAvailable()).thenReturn(bean);
+        return provider;
+    }
+}
@@ -0,0 +1,48 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import com.marcus.fullcycle.video.catalog.admin.IntegrationTest;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaRepository;
+
+/**
+ * Calls {@link CategoryMySqlRepository#deleteAllById} outside of any test
+ * transaction, so that each batch would be committed on its own if the method
+ * didn't run them all in one.
+ */
+@IntegrationTest
+public class CategoryMySqlRepositoryDeleteAllTest {
+    // One more than a delete batch holds, so the ids are deleted in two batches
+    private static final int CATEGORIES = 1001;
+
+    @Autowired
+    private CategoryMySqlRepository mySqlRepository;
+
+    @SpyBean
+    private CategoryJpaRepository jpaRepository;
+
+    @Test
+    public void givenASecondBatchThatFails_whenCallsDeleteAllById_shouldKeepTheFirstBatchToo() {
+        final var categories = IntStream.range(0, CATEGORIES)
+                .mapToObj(i -> Category.newCategory("Category " + i, null, true))
+                .toList();
+        final var ids = mySqlRepository.createAll(categories).stream().map(Category::getId).toList();
+
+        // The spy of a repository proxy delegates to it by default
+        final var delegate = Mockito.mockingDetails(jpaRepository).getMockCreationSettings().getDefaultAnswer();
+        Mockito.doAnswer(delegate)
+                .doThrow(new IllegalStateException("Second batch failed"))
+                .when(jpaRepository).deleteRowsById(Mockito.anyCollection());
+
+        Assertions.assertThrows(IllegalStateException.class, () -> mySqlRepository.deleteAllById(ids));
+
+        Assertions.assertEquals(CATEGORIES, jpaRepository.count());
+    }
+}
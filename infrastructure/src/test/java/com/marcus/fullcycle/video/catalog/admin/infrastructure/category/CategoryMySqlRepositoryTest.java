@@ -1,5 +1,7 @@
 package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
@@ -7,16 +9,23 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.marcus.fullcycle.video.catalog.admin.MySqlRepositoryTest;
+import com.marcus.fullcycle.video.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryPatch;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchMode;
 import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.ConflictException;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
+import com.marcus.fullcycle.video.catalog.admin.domain.pagination.Pagination;
 import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaRepository;
 
 @MySqlRepositoryTest
 public class CategoryMySqlRepositoryTest {
     @Autowired
-    private CategoryMySqlRepository mySqlRepository;
+    private CategoryRepository mySqlRepository;
 
     @Autowired
     private CategoryJpaRepository jpaRepository;
@@ -43,10 +52,10 @@ public class CategoryMySqlRepositoryTest {
         Assertions.assertEquals(category.getDeletedAt(), actualCategory.getDeletedAt());
         Assertions.assertNull(actualCategory.getDeletedAt());
 
-        final var persistedCategory = jpaRepository.findById(category.getId().getValue()).get();
+        final var persistedCategory = jpaRepository.findById(category.getId()).get();
 
         Assertions.assertEquals(1, jpaRepository.count());
-        Assertions.assertEquals(category.getId().getValue(), persistedCategory.getId());
+        Assertions.assertEquals(category.getId(), persistedCategory.getId());
         Assertions.assertEquals(expectedName, persistedCategory.getName());
         Assertions.assertEquals(expectedDescription, persistedCategory.getDescription());
         Assertions.assertEquals(expectedIsActive, persistedCategory.isActive());
@@ -70,7 +79,7 @@ public class CategoryMySqlRepositoryTest {
 
         Assertions.assertEquals(1, jpaRepository.count());
 
-        final var invalidEntity = jpaRepository.findById(category.getId().getValue()).get();
+        final var invalidEntity = jpaRepository.findById(category.getId()).get();
         Assertions.assertEquals("Movie", invalidEntity.getName());
         Assertions.assertNull(invalidEntity.getDescription());
         Assertions.assertEquals(expectedIsActive, invalidEntity.isActive());
@@ -89,10 +98,10 @@ public class CategoryMySqlRepositoryTest {
         Assertions.assertEquals(category.getDeletedAt(), actualCategory.getDeletedAt());
         Assertions.assertNull(actualCategory.getDeletedAt());
 
-        final var persistedCategory = jpaRepository.findById(category.getId().getValue()).get();
+        final var persistedCategory = jpaRepository.findById(category.getId()).get();
 
         Assertions.assertEquals(1, jpaRepository.count());
-        Assertions.assertEquals(category.getId().getValue(), persistedCategory.getId());
+        Assertions.assertEquals(category.getId(), persistedCategory.getId());
         Assertions.assertEquals(expectedName, persistedCategory.getName());
         Assertions.assertEquals(expectedDescription, persistedCategory.getDescription());
         Assertions.assertEquals(expectedIsActive, persistedCategory.isActive());
@@ -102,6 +111,179 @@ public class CategoryMySqlRepositoryTest {
         Assertions.assertNull(persistedCategory.getDeletedAt());
     }
 
+    @Test
+    public void givenAValidCategory_whenCallsUpdate_shouldIncrementItsVersion() {
+        final var category = mySqlRepository.create(Category.newCategory("Movie", null, true));
+
+        Assertions.assertEquals(0, category.getVersion());
+
+        final var first = mySqlRepository.update(category.clone().update("Movies", null, true));
+        final var second = mySqlRepository.update(first.clone().update("Films", null, true));
+
+        Assertions.assertEquals(1, first.getVersion());
+        Assertions.assertEquals(2, second.getVersion());
+
+        final var persistedCategory = jpaRepository.findById(category.getId()).get();
+        Assertions.assertEquals(2, persistedCategory.getVersion());
+        Assertions.assertEquals("Films", persistedCategory.getName());
+        Assertions.assertEquals("FILMS", persistedCategory.getNameSearch());
+    }
+
+    @Test
+    public void givenACategoryWithSomeFieldsChanged_whenCallsUpdate_shouldOnlyWriteThoseColumns() {
+        final var category = Category.newCategory("Movie", "Most watched category", true);
+
+        // Changes the description behind the repository's back, without moving the version
+        final var entity = CategoryJpaEntity.from(category);
+        entity.setDescription("Changed elsewhere");
+        jpaRepository.saveAndFlush(entity);
+
+        final var renamed = category.clone().update("Movies", "Most watched category", true);
+        mySqlRepository.update(renamed);
+
+        final var persistedCategory = jpaRepository.findById(category.getId()).get();
+        Assertions.assertEquals("Movies", persistedCategory.getName());
+        Assertions.assertEquals("MOVIES", persistedCategory.getNameSearch());
+        Assertions.assertEquals("Changed elsewhere", persistedCategory.getDescription());
+        Assertions.assertEquals(renamed.getUpdatedAt(), persistedCategory.getUpdatedAt());
+        Assertions.assertEquals(1, persistedCategory.getVersion());
+    }
+
+    @Test
+    public void givenAPatch_whenCallsPatch_shouldOnlyWriteItsColumnsAndMoveTheVersion() {
+        final var category = mySqlRepository.create(Category.newCategory("Movie", "Most watched category", true));
+        final var patch = CategoryPatch.of(category.getId()).withName("Ação").withActive(false);
+
+        Assertions.assertTrue(mySqlRepository.patch(patch));
+
+        final var persistedCategory = jpaRepository.findById(category.getId()).get();
+        Assertions.assertEquals("Ação", persistedCategory.getName());
+        Assertions.assertEquals("ACAO", persistedCategory.getNameSearch());
+        Assertions.assertEquals("Most watched category", persistedCategory.getDescription());
+        Assertions.assertFalse(persistedCategory.isActive());
+        Assertions.assertEquals(patch.updatedAt(), persistedCategory.getDeletedAt());
+        Assertions.assertEquals(patch.updatedAt(), persistedCategory.getUpdatedAt());
+        Assertions.assertEquals(1, persistedCategory.getVersion());
+    }
+
+    @Test
+    public void givenAnInactiveCategory_whenCallsPatchToDeactivate_shouldKeepWhenItWasDeactivated() {
+        final var category = mySqlRepository.create(Category.newCategory("Movies", null, false));
+
+        mySqlRepository.patch(CategoryPatch.of(category.getId()).withActive(false));
+
+        final var persistedCategory = jpaRepository.findById(category.getId()).get();
+        Assertions.assertEquals(category.getDeletedAt(), persistedCategory.getDeletedAt());
+
+        mySqlRepository.patch(CategoryPatch.of(category.getId()).withActive(true).withDescription(null));
+
+        final var activatedCategory = jpaRepository.findById(category.getId()).get();
+        Assertions.assertTrue(activatedCategory.isActive());
+        Assertions.assertNull(activatedCategory.getDeletedAt());
+        Assertions.assertNull(activatedCategory.getDescriptionSearch());
+        Assertions.assertEquals(2, activatedCategory.getVersion());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsPatch_shouldReturnFalse() {
+        Assertions.assertFalse(mySqlRepository.patch(CategoryPatch.of(CategoryId.unique()).withName("Movies")));
+        Assertions.assertFalse(mySqlRepository.patch(CategoryPatch.of(CategoryId.unique())));
+        Assertions.assertEquals(0, jpaRepository.count());
+    }
+
+    @Test
+    public void givenAStaleCategory_whenCallsUpdate_shouldThrowConflictAndKeepTheOtherUpdate() {
+        final var category = mySqlRepository.create(Category.newCategory("Movie", null, true));
+        final var expectedErrorMessage = "Category with ID %s was changed or deleted since version 0"
+                .formatted(category.getId().getValue());
+
+        mySqlRepository.update(category.clone().update("Movies", null, true));
+
+        final var exception = Assertions.assertThrows(ConflictException.class,
+                () -> mySqlRepository.update(category.clone().update("Films", null, true)));
+
+        Assertions.assertEquals(expectedErrorMessage, exception.getMessage());
+
+        final var persistedCategory = jpaRepository.findById(category.getId()).get();
+        Assertions.assertEquals(1, persistedCategory.getVersion());
+        Assertions.assertEquals("Movies", persistedCategory.getName());
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallsUpdate_shouldThrowConflict() {
+        final var category = mySqlRepository.create(Category.newCategory("Movie", null, true));
+        mySqlRepository.deleteById(category.getId());
+
+        Assertions.assertThrows(ConflictException.class,
+                () -> mySqlRepository.update(category.clone().update("Movies", null, true)));
+    }
+
+    @Test
+    public void givenValidCategories_whenCallsCreateAll_shouldPersistThemAll() {
+        final var movies = Category.newCategory("Ação", "Most watched category", true);
+        final var series = Category.newCategory("Series", null, false);
+
+        final var actualCategories = mySqlRepository.createAll(List.of(movies, series));
+
+        Assertions.assertEquals(2, actualCategories.size());
+        Assertions.assertEquals(2, jpaRepository.count());
+
+        final var persistedMovies = jpaRepository.findById(movies.getId()).get();
+        Assertions.assertEquals("Ação", persistedMovies.getName());
+        Assertions.assertEquals("ACAO", persistedMovies.getNameSearch());
+        Assertions.assertEquals("Most watched category", persistedMovies.getDescription());
+        Assertions.assertTrue(persistedMovies.isActive());
+        Assertions.assertEquals(movies.getCreatedAt(), persistedMovies.getCreatedAt());
+        Assertions.assertNull(persistedMovies.getDeletedAt());
+
+        final var persistedSeries = jpaRepository.findById(series.getId()).get();
+        Assertions.assertFalse(persistedSeries.isActive());
+        Assertions.assertEquals(series.getDeletedAt(), persistedSeries.getDeletedAt());
+    }
+
+    @Test
+    public void givenAnInvalidCategory_whenCallsCreateAll_shouldNotPersistAnything() {
+        final var categories = List.of(
+                Category.newCategory("Movies", null, true),
+                Category.newCategory(null, null, true));
+
+        Assertions.assertThrows(DomainException.class, () -> mySqlRepository.createAll(categories));
+
+        Assertions.assertEquals(0, jpaRepository.count());
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallsUpdateAll_shouldUpdateThemAndIncrementTheirVersions() {
+        final var created = mySqlRepository.createAll(List.of(
+                Category.newCategory("Movie", null, true),
+                Category.newCategory("Serie", null, true)));
+
+        final var actualCategories = mySqlRepository.updateAll(List.of(
+                created.get(0).clone().update("Movies", null, true),
+                created.get(1).clone().update("Series", null, false)));
+
+        Assertions.assertTrue(actualCategories.stream().allMatch(category -> category.getVersion() == 1));
+
+        final var persistedSeries = jpaRepository.findById(created.get(1).getId()).get();
+        Assertions.assertEquals("Series", persistedSeries.getName());
+        Assertions.assertEquals("SERIES", persistedSeries.getNameSearch());
+        Assertions.assertFalse(persistedSeries.isActive());
+        Assertions.assertEquals(1, persistedSeries.getVersion());
+    }
+
+    @Test
+    public void givenAStaleCategory_whenCallsUpdateAll_shouldThrowConflict() {
+        final var created = mySqlRepository.createAll(List.of(
+                Category.newCategory("Movie", null, true),
+                Category.newCategory("Serie", null, true)));
+
+        mySqlRepository.update(created.get(1).clone().update("Series", null, true));
+
+        Assertions.assertThrows(ConflictException.class, () -> mySqlRepository.updateAll(List.of(
+                created.get(0).clone().update("Movies", null, true),
+                created.get(1).clone().update("TV Series", null, true))));
+    }
+
     @Test
     public void givenAPrePersistedCategoryAndValidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         final var category = Category.newCategory("Movies", null, true);
@@ -117,6 +299,32 @@ public class CategoryMySqlRepositoryTest {
         Assertions.assertEquals(0, jpaRepository.count());
     }
 
+    @Test
+    public void givenPrePersistedCategories_whenCallsDeleteAllById_shouldOnlyDeleteTheGivenOnes() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        jpaRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)));
+
+        mySqlRepository.deleteAllById(List.of(movies.getId(), documentaries.getId(), CategoryId.from("invalid")));
+
+        Assertions.assertEquals(1, jpaRepository.count());
+        Assertions.assertTrue(jpaRepository.existsById(series.getId()));
+    }
+
+    @Test
+    public void givenNoIds_whenCallsDeleteAllById_shouldIgnore() {
+        jpaRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Movies", null, true)));
+
+        mySqlRepository.deleteAllById(List.of());
+
+        Assertions.assertEquals(1, jpaRepository.count());
+    }
+
     @Test
     public void givenAnInvalidCategoryId_whenTryToDeleteIt_shouldIgnore() {
         Assertions.assertEquals(0, jpaRepository.count());
@@ -153,6 +361,17 @@ public class CategoryMySqlRepositoryTest {
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
 
+    @Test
+    public void givenAnUpperCaseCategoryId_whenCallsFindById_shouldReturnTheStoredCategory() {
+        final var category = Category.newCategory("Movies", null, true);
+        jpaRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final var upperCaseId = CategoryId.from(category.getId().getValue().toUpperCase());
+        final var actualCategory = mySqlRepository.findById(upperCaseId).get();
+
+        Assertions.assertEquals(category.getId().getValue(), actualCategory.getId().getValue());
+    }
+
     @Test
     public void givenValidCategoryIdNotStored_whenCallsFindById_shouldReturnEmpty() {
         Assertions.assertEquals(0, jpaRepository.count());
@@ -316,4 +535,290 @@ public class CategoryMySqlRepositoryTest {
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
         Assertions.assertEquals(movies.getId(), actualResult.items().get(0).getId());
     }
+
+    @Test
+    public void givenMultiplePagesOfCategories_whenCallsFindAllWithCursor_shouldSeekEachPage() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        Assertions.assertEquals(0, jpaRepository.count());
+
+        jpaRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)));
+
+        Assertions.assertEquals(3, jpaRepository.count());
+
+        final var expectedPerPage = 1;
+
+        var query = new CategorySearchQuery(0, 1, "", "name", "asc").withCursor("");
+        var actualResult = mySqlRepository.findAll(query);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.next());
+
+        query = new CategorySearchQuery(0, 1, "", "name", "asc").withCursor(actualResult.next());
+        actualResult = mySqlRepository.findAll(query);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(movies.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.next());
+
+        query = new CategorySearchQuery(0, 1, "", "name", "asc").withCursor(actualResult.next());
+        actualResult = mySqlRepository.findAll(query);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.next());
+    }
+
+    @Test
+    public void givenCategoriesWithTheSameCreatedAt_whenCallsFindAllWithCursorDesc_shouldBreakTiesById() {
+        final var first = Category.newCategory("Movies", null, true);
+        final var second = Category.with(CategoryId.unique(), "Series", null, true,
+                first.getCreatedAt(), first.getUpdatedAt(), null);
+
+        jpaRepository.saveAll(List.of(CategoryJpaEntity.from(first), CategoryJpaEntity.from(second)));
+
+        final var query = new CategorySearchQuery(0, 1, "", "createdAt", "desc");
+        final var firstPage = mySqlRepository.findAll(query.withCursor(""));
+        final var secondPage = mySqlRepository.findAll(query.withCursor(firstPage.next()));
+
+        Assertions.assertEquals(1, firstPage.items().size());
+        Assertions.assertEquals(1, secondPage.items().size());
+        Assertions.assertNotEquals(firstPage.items().get(0).getId(), secondPage.items().get(0).getId());
+        Assertions.assertNull(secondPage.next());
+    }
+
+    @Test
+    public void givenACursorFromAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        jpaRepository.saveAll(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+
+        final var byName = mySqlRepository.findAll(new CategorySearchQuery(0, 1, "", "name", "asc").withCursor(""));
+        final var query = new CategorySearchQuery(0, 1, "", "createdAt", "asc").withCursor(byName.next());
+
+        Assertions.assertThrows(DomainException.class, () -> mySqlRepository.findAll(query));
+    }
+
+    @Test
+    public void givenMultiplePagesOfCategories_whenCallsFindAllWithoutTotal_shouldReturnHasNext() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        jpaRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)));
+
+        Assertions.assertEquals(3, jpaRepository.count());
+
+        var actualResult = mySqlRepository.findAll(new CategorySearchQuery(1, 1, "", "name", "asc").withoutTotal());
+
+        Assertions.assertEquals(1, actualResult.page());
+        Assertions.assertEquals(1, actualResult.perPage());
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(movies.getId(), actualResult.items().get(0).getId());
+
+        actualResult = mySqlRepository.findAll(new CategorySearchQuery(2, 1, "", "name", "asc").withoutTotal());
+
+        Assertions.assertFalse(actualResult.hasNext());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenAccentedCategories_whenCallsFindAllWithPrefixMode_shouldIgnoreCaseAndAccents() {
+        final var action = Category.newCategory("Ação", "Filmes de ação", true);
+        final var adventure = Category.newCategory("Aventura", "Filmes de aventura", true);
+        final var comedy = Category.newCategory("Comédia", "Filmes para rir de ação", true);
+
+        jpaRepository.saveAll(List.of(
+                CategoryJpaEntity.from(action),
+                CategoryJpaEntity.from(adventure),
+                CategoryJpaEntity.from(comedy)));
+
+        final var actualResult = mySqlRepository.findAll(new CategorySearchQuery(0, 10, "acao", "name", "asc")
+                .withSearchMode(CategorySearchMode.PREFIX));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(action.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenAccentedCategories_whenCallsFindAllWithSubstringMode_shouldMatchNameOrDescription() {
+        final var action = Category.newCategory("Ação", "Filmes de ação", true);
+        final var adventure = Category.newCategory("Aventura", "Filmes de aventura", true);
+        final var comedy = Category.newCategory("Comédia", "Filmes para rir de ação", true);
+
+        jpaRepository.saveAll(List.of(
+                CategoryJpaEntity.from(action),
+                CategoryJpaEntity.from(adventure),
+                CategoryJpaEntity.from(comedy)));
+
+        final var actualResult = mySqlRepository.findAll(new CategorySearchQuery(0, 10, "ACAO", "name", "asc"));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(action.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(comedy.getId(), actualResult.items().get(1).getId());
+    }
+
+    @Test
+    public void givenATermWithLikeWildcards_whenCallsFindAll_shouldMatchThemLiterally() {
+        final var discounted = Category.newCategory("50% off", null, true);
+        final var movies = Category.newCategory("500 movies", null, true);
+
+        jpaRepository.saveAll(List.of(CategoryJpaEntity.from(discounted), CategoryJpaEntity.from(movies)));
+
+        final var actualResult = mySqlRepository.findAll(new CategorySearchQuery(0, 10, "50%", "name", "asc")
+                .withSearchMode(CategorySearchMode.PREFIX));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(discounted.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenAccentedCategories_whenCallsSuggest_shouldReturnNamesStartingWithThePrefix() {
+        final var action = Category.newCategory("Ação", null, true);
+        final var camping = Category.newCategory("Acampamento", null, true);
+        final var adventure = Category.newCategory("Aventura", null, true);
+
+        jpaRepository.saveAll(List.of(
+                CategoryJpaEntity.from(action),
+                CategoryJpaEntity.from(camping),
+                CategoryJpaEntity.from(adventure)));
+
+        final var actualResult = mySqlRepository.suggest("ac", 10);
+
+        Assertions.assertEquals(2, actualResult.size());
+        Assertions.assertEquals(camping.getId(), actualResult.get(0).id());
+        Assertions.assertEquals("Ação", actualResult.get(1).name());
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallsFindAllWithAProjection_shouldReturnTheSamePagesAsTheEntities() {
+        final var movies = Category.newCategory("Movies", "Most watched category", true);
+        final var series = Category.newCategory("Series", null, false);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+        final var cartoons = Category.newCategory("Cartoons", "For kids", true);
+
+        jpaRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries),
+                CategoryJpaEntity.from(cartoons)));
+
+        final var queries = List.of(
+                new CategorySearchQuery(0, 2, "", "name", "asc"),
+                new CategorySearchQuery(1, 3, "", "createdAt", "desc"),
+                new CategorySearchQuery(5, 2, "", "name", "asc"),
+                new CategorySearchQuery(0, 10, "kids", "name", "asc"),
+                new CategorySearchQuery(0, 2, "", "name", "desc").withoutTotal(),
+                new CategorySearchQuery(0, 10, "", "name", "asc").withActive(false),
+                new CategorySearchQuery(0, 3, "", "name", "asc").withCursor(""));
+
+        for (final var query : queries) {
+            final var expectedResult = mySqlRepository.findAll(query).map(CategoryListOutput::from);
+            final var actualResult = mySqlRepository.findAll(query, CategoryListOutput::new);
+
+            Assertions.assertEquals(expectedResult, actualResult, query.toString());
+        }
+    }
+
+    @Test
+    public void givenMultiplePagesOfCategories_whenCallsFindAllWithAProjectionAndCursor_shouldWalkThroughThem() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        jpaRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)));
+
+        final var query = new CategorySearchQuery(0, 2, "", "name", "asc");
+        final var firstPage = mySqlRepository.findAll(query.withCursor(""), CategoryListOutput::new);
+        final var secondPage = mySqlRepository.findAll(query.withCursor(firstPage.next()), CategoryListOutput::new);
+
+        Assertions.assertEquals(2, firstPage.items().size());
+        Assertions.assertEquals(documentaries.getId(), firstPage.items().get(0).id());
+        Assertions.assertEquals(movies.getId(), firstPage.items().get(1).id());
+        Assertions.assertNotNull(firstPage.next());
+        Assertions.assertEquals(1, secondPage.items().size());
+        Assertions.assertEquals(series.getId(), secondPage.items().get(0).id());
+        Assertions.assertNull(secondPage.next());
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallsForEach_shouldVisitAllOfThemInIdOrder() {
+        final var movies = Category.newCategory("Movies", "Most watched category", true);
+        final var series = Category.newCategory("Series", null, false);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        jpaRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)));
+
+        final var expectedOrder = List.of(movies, series, documentaries).stream()
+                .sorted(Comparator.comparing(category -> category.getId().getValue()))
+                .toList();
+
+        final var actualCategories = new ArrayList<Category>();
+        mySqlRepository.forEach(actualCategories::add);
+
+        Assertions.assertEquals(3, actualCategories.size());
+        for (int i = 0; i < expectedOrder.size(); i++) {
+            final var expected = expectedOrder.get(i);
+            final var actual = actualCategories.get(i);
+            Assertions.assertEquals(expected.getId(), actual.getId());
+            Assertions.assertEquals(expected.getName(), actual.getName());
+            Assertions.assertEquals(expected.getDescription(), actual.getDescription());
+            Assertions.assertEquals(expected.isActive(), actual.isActive());
+            Assertions.assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+            Assertions.assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+            Assertions.assertEquals(expected.getDeletedAt(), actual.getDeletedAt());
+        }
+    }
+
+    @Test
+    public void givenACategoryCreatedInTheSameTransaction_whenCallsForEach_shouldVisitIt() {
+        final var movies = Category.newCategory("Movies", "Most watched category", true);
+        mySqlRepository.create(movies);
+
+        final var actualCategories = new ArrayList<Category>();
+        mySqlRepository.forEach(actualCategories::add);
+
+        Assertions.assertEquals(1, actualCategories.size());
+        Assertions.assertEquals(movies.getId(), actualCategories.get(0).getId());
+    }
+
+    @Test
+    public void givenActiveAndInactiveCategories_whenCallsFindAllWithActiveFilter_shouldReturnOnlyMatchingOnes() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, false);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        jpaRepository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)));
+
+        final var actualResult = mySqlRepository.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")
+                .withActive(false));
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
 }
@@ -0,0 +1,67 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySuggestion;
+
+public class CategoryNameSuggestionsTest {
+    @Test
+    public void givenIndexedNames_whenSuggestingAPrefix_shouldReturnMatchesInNameOrderIgnoringCaseAndAccents() {
+        final var suggestions = new CategoryNameSuggestions();
+        suggestions.put("1", "Ação", null);
+        suggestions.put("2", "Acampamento", null);
+        suggestions.put("3", "Aventura", null);
+        suggestions.put("4", "acabamento", null);
+
+        Assertions.assertEquals(List.of("Ação"), names(suggestions.suggest("acao", 10)));
+        Assertions.assertEquals(List.of("acabamento", "Acampamento", "Ação"), names(suggestions.suggest("ac", 10)));
+        Assertions.assertEquals(List.of(), names(suggestions.suggest("b", 10)));
+    }
+
+    @Test
+    public void givenMoreMatchesThanTheLimit_whenSuggesting_shouldReturnTheFirstOnes() {
+        final var suggestions = new CategoryNameSuggestions();
+        suggestions.put("1", "Movies C", null);
+        suggestions.put("2", "Movies A", null);
+        suggestions.put("3", "Movies B", null);
+
+        Assertions.assertEquals(List.of("Movies A", "Movies B"), names(suggestions.suggest("movies", 2)));
+    }
+
+    @Test
+    public void givenCategoriesWithTheSameName_whenSuggesting_shouldReturnAllOfThem() {
+        final var suggestions = new CategoryNameSuggestions();
+        suggestions.put("1", "Movies", null);
+        suggestions.put("2", "Movies", null);
+
+        Assertions.assertEquals(2, suggestions.suggest("movies", 10).size());
+    }
+
+    @Test
+    public void givenARenamedCategory_whenSuggesting_shouldOnlyMatchTheNewName() {
+        final var suggestions = new CategoryNameSuggestions();
+        suggestions.put("1", "Movies", null);
+        suggestions.put("1", "Series", null);
+
+        Assertions.assertEquals(List.of(), names(suggestions.suggest("mov", 10)));
+        Assertions.assertEquals(List.of("Series"), names(suggestions.suggest("ser", 10)));
+        Assertions.assertEquals(1, suggestions.size());
+    }
+
+    @Test
+    public void givenARemovedCategory_whenSuggesting_shouldNotReturnIt() {
+        final var suggestions = new CategoryNameSuggestions();
+        suggestions.put("1", "Movies", null);
+        suggestions.remove("1");
+
+        Assertions.assertEquals(List.of(), names(suggestions.suggest("mov", 10)));
+        Assertions.assertEquals(0, suggestions.size());
+    }
+
+    private static List<String> names(final List<CategorySuggestion> suggestions) {
+        return suggestions.stream().map(CategorySuggestion::name).toList();
+    }
+}
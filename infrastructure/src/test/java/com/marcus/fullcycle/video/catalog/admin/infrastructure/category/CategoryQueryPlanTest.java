@@ -0,0 +1,126 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.marcus.fullcycle.video.catalog.admin.MySqlRepositoryTest;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchMode;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategorySearchQuery;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaRepository;
+
+/**
+ * Runs EXPLAIN on every query shape the category listing generates, with the
+ * values the listing bound to it, and fails when one of them reads the whole
+ * table.
+ * <p>
+ * Both directions are checked. H2 uses an index for ORDER BY only in the
+ * direction it was declared, while MySQL reads the same index backwards, so
+ * the test database also has the descending twins of the sort indexes, see
+ * {@code R__H2_descending_sort_indexes.sql}. Count queries and substring
+ * searches are left out, as they read every row by nature.
+ */
+@MySqlRepositoryTest
+public class CategoryQueryPlanTest {
+    private static final List<String> DIRECTIONS = List.of("asc", "desc");
+
+    @TestConfiguration
+    static class RecordingConfig {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return RecordingDataSource.wrapping();
+        }
+    }
+
+    @Autowired
+    private CategoryMySqlRepository mySqlRepository;
+
+    @Autowired
+    private CategoryJpaRepository jpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Series", null, false)),
+                CategoryJpaEntity.from(Category.newCategory("Documentaries", null, true))));
+        RecordingDataSource.drain();
+    }
+
+    @Test
+    public void givenEverySortableField_whenListingByPage_shouldUseAnIndex() {
+        for (final var sort : CategorySearchQuery.SORTABLE_FIELDS)
+            for (final var direction : DIRECTIONS) {
+                assertNoFullScan(new CategorySearchQuery(1, 1, "", sort, direction));
+                assertNoFullScan(new CategorySearchQuery(1, 1, "", sort, direction).withoutTotal());
+            }
+    }
+
+    @Test
+    public void givenEverySortableField_whenListingByCursor_shouldUseAnIndex() {
+        for (final var sort : CategorySearchQuery.SORTABLE_FIELDS)
+            for (final var direction : DIRECTIONS) {
+                final var first = mySqlRepository.findAll(
+                        new CategorySearchQuery(0, 1, "", sort, direction).withCursor(""));
+                assertNoFullScan(new CategorySearchQuery(0, 1, "", sort, direction).withCursor(first.next()));
+            }
+    }
+
+    @Test
+    public void givenAnActiveFilter_whenListing_shouldUseAnIndex() {
+        for (final var sort : CategorySearchQuery.SORTABLE_FIELDS)
+            for (final var direction : DIRECTIONS) {
+                assertNoFullScan(new CategorySearchQuery(0, 1, "", sort, direction).withActive(true));
+                assertNoFullScan(new CategorySearchQuery(0, 1, "", sort, direction).withActive(false).withCursor(""));
+            }
+    }
+
+    @Test
+    public void givenAPrefixSearch_whenListing_shouldUseAnIndex() {
+        for (final var sort : CategorySearchQuery.SORTABLE_FIELDS)
+            for (final var direction : DIRECTIONS)
+                assertNoFullScan(new CategorySearchQuery(0, 1, "mov", sort, direction)
+                        .withSearchMode(CategorySearchMode.PREFIX)
+                        .withoutTotal());
+    }
+
+    private void assertNoFullScan(final CategorySearchQuery query) {
+        RecordingDataSource.drain();
+        mySqlRepository.findAll(query);
+
+        final var selects = RecordingDataSource.drain().stream()
+                .filter(execution -> execution.sql().toLowerCase().startsWith("select")
+                        && !execution.sql().toLowerCase().contains("count("))
+                .toList();
+        Assertions.assertFalse(selects.isEmpty(), () -> "No query was generated for " + query);
+
+        for (final var select : selects) {
+            Assertions.assertTrue(select.parameters().stream().noneMatch(Objects::isNull),
+                    () -> "Unbound value in " + select);
+            final var plan = jdbcTemplate.queryForList("EXPLAIN " + select.sql(), select.parameters().toArray());
+            Assertions.assertFalse(isFullScan(plan), () -> "Full scan for " + query + ": " + plan);
+        }
+    }
+
+    // MySQL reports `type = ALL`, H2 names the scan in its single PLAN column
+    private static boolean isFullScan(final List<Map<String, Object>> plan) {
+        return plan.stream().anyMatch(row -> row.entrySet().stream().anyMatch(column ->
+                "type".equalsIgnoreCase(column.getKey())
+                        ? "ALL".equalsIgnoreCase(Objects.toString(column.getValue()))
+                        : Objects.toString(column.getValue()).contains("tableScan")));
+    }
+}
@@ -0,0 +1,69 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CategoryTrigramIndexTest {
+    @Test
+    public void givenIndexedCategories_whenSearchingASubstring_shouldReturnMatchesIgnoringCaseAndAccents() {
+        final var index = new CategoryTrigramIndex(10);
+        index.put("1", "Ação", "Filmes de ação");
+        index.put("2", "Aventura", "Filmes de aventura");
+        index.put("3", "Comédia", "Filmes para rir de uma situação");
+
+        Assertions.assertEquals(Set.of("1", "3"), index.search("acao").orElseThrow());
+        Assertions.assertEquals(Set.of("3"), index.search("UACAO").orElseThrow());
+        Assertions.assertEquals(Set.of("1", "2", "3"), index.search("filmes").orElseThrow());
+        Assertions.assertEquals(Set.of(), index.search("terror").orElseThrow());
+    }
+
+    @Test
+    public void givenTermsWhoseTrigramsAppearApart_whenSearching_shouldNotReturnTheCategory() {
+        final var index = new CategoryTrigramIndex(10);
+        index.put("1", "ABCD XBCE", null);
+
+        Assertions.assertEquals(Set.of(), index.search("ABCE").orElseThrow());
+    }
+
+    @Test
+    public void givenAnUpdatedCategory_whenSearching_shouldOnlyMatchTheNewText() {
+        final var index = new CategoryTrigramIndex(10);
+        index.put("1", "Movies", null);
+        index.put("1", "Series", null);
+
+        Assertions.assertEquals(Set.of(), index.search("movies").orElseThrow());
+        Assertions.assertEquals(Set.of("1"), index.search("series").orElseThrow());
+        Assertions.assertEquals(1, index.size());
+    }
+
+    @Test
+    public void givenARemovedCategory_whenSearching_shouldNotMatchIt() {
+        final var index = new CategoryTrigramIndex(10);
+        index.put("1", "Movies", null);
+        index.remove("1");
+
+        Assertions.assertEquals(Set.of(), index.search("movies").orElseThrow());
+        Assertions.assertEquals(0, index.size());
+    }
+
+    @Test
+    public void givenTermsShorterThanATrigram_whenSearching_shouldDecline() {
+        final var index = new CategoryTrigramIndex(10);
+        index.put("1", "Movies", null);
+
+        Assertions.assertTrue(index.search("mo").isEmpty());
+    }
+
+    @Test
+    public void givenMoreMatchesThanTheLimit_whenSearching_shouldDecline() {
+        final var index = new CategoryTrigramIndex(2);
+        index.put("1", "Movies 1", null);
+        index.put("2", "Movies 2", null);
+        index.put("3", "Movies 3", null);
+
+        Assertions.assertTrue(index.search("movies").isEmpty());
+        Assertions.assertEquals(Set.of("2"), index.search("movies 2").orElseThrow());
+    }
+}
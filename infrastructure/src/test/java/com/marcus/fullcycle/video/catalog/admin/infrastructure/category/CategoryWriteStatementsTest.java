@@ -0,0 +1,114 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.marcus.fullcycle.video.catalog.admin.MySqlRepositoryTest;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence.CategoryJpaRepository;
+
+/**
+ * Counts the SQL statements each write of {@link CategoryMySqlRepository}
+ * sends to the database.
+ */
+@MySqlRepositoryTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.marcus.fullcycle.video.catalog.admin.infrastructure.category.RecordingStatementInspector")
+public class CategoryWriteStatementsTest {
+    @Autowired
+    private CategoryMySqlRepository mySqlRepository;
+
+    @Autowired
+    private CategoryJpaRepository jpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.drain();
+    }
+
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldOnlyInsertIt() {
+        final var category = Category.newCategory("Movies", "Most watched category", true);
+
+        mySqlRepository.create(category);
+        jpaRepository.flush();
+
+        final var statements = lowerCase(RecordingStatementInspector.drain());
+
+        Assertions.assertEquals(1, statements.size(), () -> "Statements: " + statements);
+        Assertions.assertTrue(statements.get(0).startsWith("insert into categories"));
+    }
+
+    @Test
+    public void givenManyCategories_whenCallsCreate_shouldSendOneStatementPerCategory() {
+        final var expectedStatements = 5;
+
+        for (int i = 0; i < expectedStatements; i++)
+            mySqlRepository.create(Category.newCategory("Category " + i, null, true));
+        jpaRepository.flush();
+
+        final var statements = lowerCase(RecordingStatementInspector.drain());
+
+        Assertions.assertEquals(expectedStatements, statements.size(), () -> "Statements: " + statements);
+        Assertions.assertTrue(statements.stream().allMatch(sql -> sql.startsWith("insert")));
+        Assertions.assertEquals(expectedStatements, jpaRepository.count());
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallsUpdate_shouldSendASingleConditionalUpdate() {
+        final var category = mySqlRepository.create(Category.newCategory("Movie", null, true));
+        jpaRepository.flush();
+        RecordingStatementInspector.drain();
+
+        mySqlRepository.update(category.clone().update("Movies", null, true));
+
+        final var statements = lowerCase(RecordingStatementInspector.drain());
+
+        Assertions.assertEquals(1, statements.size(), () -> "Statements: " + statements);
+        Assertions.assertTrue(statements.get(0).startsWith("update categories"));
+        Assertions.assertTrue(statements.get(0).replace(" ", "").contains("version=?"), statements.get(0));
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallsDeleteById_shouldSendASingleDelete() {
+        final var category = mySqlRepository.create(Category.newCategory("Movies", null, true));
+        jpaRepository.flush();
+        RecordingStatementInspector.drain();
+
+        mySqlRepository.deleteById(category.getId());
+        mySqlRepository.deleteById(CategoryId.unique());
+
+        final var statements = lowerCase(RecordingStatementInspector.drain());
+
+        Assertions.assertEquals(2, statements.size(), () -> "Statements: " + statements);
+        Assertions.assertTrue(statements.stream().allMatch(sql -> sql.startsWith("delete from categories")));
+    }
+
+    @Test
+    public void givenManyPersistedCategories_whenCallsDeleteAllById_shouldSendASingleDelete() {
+        final var ids = new ArrayList<CategoryId>();
+        for (int i = 0; i < 5; i++)
+            ids.add(mySqlRepository.create(Category.newCategory("Category " + i, null, true)).getId());
+        jpaRepository.flush();
+        RecordingStatementInspector.drain();
+
+        mySqlRepository.deleteAllById(ids);
+
+        final var statements = lowerCase(RecordingStatementInspector.drain());
+
+        Assertions.assertEquals(1, statements.size(), () -> "Statements: " + statements);
+        Assertions.assertTrue(statements.get(0).startsWith("delete from categories"));
+        Assertions.assertEquals(0, jpaRepository.count());
+    }
+
+    private static List<String> lowerCase(final List<String> statements) {
+        return statements.stream().map(String::toLowerCase).toList();
+    }
+}
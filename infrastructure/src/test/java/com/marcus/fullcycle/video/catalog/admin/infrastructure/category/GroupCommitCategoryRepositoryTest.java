@@ -0,0 +1,164 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.DomainException;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+
+public class GroupCommitCategoryRepositoryTest {
+    private CategoryRepository delegate;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryRepository.class);
+        callers = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    public void givenConcurrentCreates_whenCallsCreate_shouldWriteThemInOneBatch() throws Exception {
+        final var expectedCallers = 4;
+        Mockito.when(delegate.createAll(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        try (final var repository = groupCommit(expectedCallers)) {
+            final var categories = new ArrayList<Category>();
+            for (int i = 0; i < expectedCallers; i++)
+                categories.add(Category.newCategory("Category " + i, null, true));
+
+            final var results = createConcurrently(repository, categories);
+
+            for (int i = 0; i < expectedCallers; i++)
+                Assertions.assertEquals(categories.get(i).getId(), results.get(i).get(5, TimeUnit.SECONDS).getId());
+        }
+
+        Mockito.verify(delegate, Mockito.times(1)).createAll(Mockito.argThat(batch -> batch.size() == expectedCallers));
+        Mockito.verify(delegate, Mockito.never()).create(Mockito.any());
+    }
+
+    @Test
+    public void givenAFailingBatch_whenCallsCreate_shouldOnlyFailTheCallerOfTheFailingWrite() throws Exception {
+        final var expectedErrorMessage = "`name` should not be null";
+        final var valid = Category.newCategory("Movies", null, true);
+        final var invalid = Category.newCategory(null, null, true);
+
+        Mockito.when(delegate.createAll(Mockito.any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+        Mockito.when(delegate.create(Mockito.same(valid))).thenReturn(valid);
+        Mockito.when(delegate.create(Mockito.same(invalid)))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        try (final var repository = groupCommit(2)) {
+            final var results = createConcurrently(repository, List.of(valid, invalid));
+
+            Assertions.assertEquals(valid.getId(), results.get(0).get(5, TimeUnit.SECONDS).getId());
+
+            final var failure = Assertions.assertThrows(Exception.class, () -> results.get(1).get(5, TimeUnit.SECONDS));
+            Assertions.assertInstanceOf(DomainException.class, failure.getCause());
+            Assertions.assertEquals(expectedErrorMessage, failure.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void givenAClosedRepository_whenCallsCreate_shouldWriteStraightThroughTheDelegate() {
+        final var category = Category.newCategory("Movies", null, true);
+        Mockito.when(delegate.create(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var repository = groupCommit(10);
+        repository.close();
+
+        Assertions.assertEquals(category.getId(), repository.create(category).getId());
+        Mockito.verify(delegate, Mockito.times(1)).create(Mockito.same(category));
+        Mockito.verify(delegate, Mockito.never()).createAll(Mockito.any());
+    }
+
+    @Test
+    public void givenAWriteThatDoesNotCommitInTime_whenCallsCreate_shouldFailTheCaller() {
+        final var category = Category.newCategory("Movies", null, true);
+        final var release = new CountDownLatch(1);
+        Mockito.when(delegate.create(Mockito.any())).thenAnswer(invocation -> {
+            release.await();
+            return invocation.getArgument(0);
+        });
+
+        final var repository = new GroupCommitCategoryRepository(delegate,
+                TransactionOperations.withoutTransaction(), 0, 1, 100);
+        try {
+            final var failure = Assertions.assertThrows(IllegalStateException.class,
+                    () -> repository.create(category));
+            Assertions.assertTrue(failure.getMessage().startsWith("Timed out after 100ms"), failure::getMessage);
+        } finally {
+            // The writer is still inside the delegate, and close() waits for it
+            release.countDown();
+            repository.close();
+        }
+    }
+
+    @Test
+    public void givenAFailingWriter_whenCallsCreate_shouldFailThePendingWritesAndWriteLaterOnesDirectly()
+            throws Exception {
+        final var categories = List.of(
+                Category.newCategory("Movies", null, true),
+                Category.newCategory("Series", null, true));
+        // Fewer results than writes: the writer can't tell whose write is whose and gives up
+        Mockito.when(delegate.createAll(Mockito.any())).thenReturn(List.of());
+        Mockito.when(delegate.create(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        try (final var repository = groupCommit(2)) {
+            final var results = createConcurrently(repository, categories);
+
+            for (final var result : results) {
+                final var failure = Assertions.assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+                Assertions.assertInstanceOf(IllegalStateException.class, failure.getCause());
+            }
+
+            final var later = Category.newCategory("Documentaries", null, true);
+            Assertions.assertEquals(later.getId(), repository.create(later).getId());
+            Mockito.verify(delegate, Mockito.times(1)).create(Mockito.same(later));
+        }
+    }
+
+    // A long window: the batch is written once `maxBatchSize` writes are pending
+    private GroupCommitCategoryRepository groupCommit(final int maxBatchSize) {
+        return new GroupCommitCategoryRepository(delegate, TransactionOperations.withoutTransaction(), 5_000,
+                maxBatchSize, 10_000);
+    }
+
+    private List<CompletableFuture<Category>> createConcurrently(
+            final CategoryRepository repository,
+            final List<Category> categories) {
+        final var start = new CountDownLatch(1);
+        final var results = categories.stream()
+                .map(category -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return repository.create(category);
+                }, callers))
+                .toList();
+        start.countDown();
+        return results;
+    }
+}
@@ -0,0 +1,147 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.ConflictException;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource.ReplicaRouting;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ReadThroughCategoryRepositoryTest {
+    private CategoryRepository delegate;
+    private SimpleMeterRegistry registry;
+    private ReadThroughCategoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryRepository.class);
+        registry = new SimpleMeterRegistry();
+        repository = new ReadThroughCategoryRepository(delegate, 100, Duration.ofMinutes(1), registry, false);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindById_shouldServeACopyFromMemory() {
+        final var category = Category.newCategory("Movies", null, true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        final var first = repository.findById(category.getId()).get();
+        final var second = repository.findById(category.getId()).get();
+
+        Mockito.verify(delegate, Mockito.times(1)).findById(category.getId());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals("Movies", second.getName());
+
+        // Changing a returned category doesn't change the cached one
+        first.update("Films", null, true);
+        Assertions.assertEquals("Movies", repository.findById(category.getId()).get().getName());
+
+        Assertions.assertEquals(1, registry.get("cache.gets").tags("cache", "categories.by_id", "result", "miss")
+                .functionCounter().count());
+        Assertions.assertEquals(2, registry.get("cache.gets").tags("cache", "categories.by_id", "result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_shouldReadItAgain() {
+        final var category = Category.newCategory("Movies", null, true);
+        final var updated = category.clone().update("Films", null, true);
+        Mockito.when(delegate.findById(category.getId()))
+                .thenReturn(Optional.of(category), Optional.of(updated));
+        Mockito.when(delegate.update(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        repository.findById(category.getId());
+        repository.update(updated);
+
+        Assertions.assertEquals("Films", repository.findById(category.getId()).get().getName());
+        Mockito.verify(delegate, Mockito.times(2)).findById(category.getId());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsCreate_shouldNotServeItAsMissing() {
+        final var category = Category.newCategory("Movies", null, true);
+        Mockito.when(delegate.findById(category.getId()))
+                .thenReturn(Optional.empty(), Optional.of(category));
+        Mockito.when(delegate.create(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        Assertions.assertTrue(repository.findById(category.getId()).isEmpty());
+        repository.create(category);
+
+        Assertions.assertTrue(repository.findById(category.getId()).isPresent());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsDeleteById_shouldForgetIt() {
+        final var category = Category.newCategory("Movies", null, true);
+        Mockito.when(delegate.findById(category.getId()))
+                .thenReturn(Optional.of(category), Optional.empty());
+
+        repository.findById(category.getId());
+        repository.deleteById(category.getId());
+
+        Assertions.assertTrue(repository.findById(category.getId()).isEmpty());
+        Mockito.verify(delegate, Mockito.times(1)).deleteById(category.getId());
+    }
+
+    @Test
+    public void givenAConflictingUpdate_whenCallsUpdate_shouldStillForgetTheCachedCategory() {
+        final var category = Category.newCategory("Movies", null, true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+        Mockito.when(delegate.update(Mockito.any()))
+                .thenThrow(ConflictException.with(new Error("Category was changed")));
+
+        repository.findById(category.getId());
+        Assertions.assertThrows(ConflictException.class, () -> repository.update(category));
+        repository.findById(category.getId());
+
+        Mockito.verify(delegate, Mockito.times(2)).findById(category.getId());
+    }
+
+    @Test
+    public void givenAReplica_whenReadingAfterAWrite_shouldNeitherCacheTheReplicaNorServePinnedReadsFromMemory() {
+        final var repository = new ReadThroughCategoryRepository(delegate, 100, Duration.ofMinutes(1), registry, true);
+        final var category = Category.newCategory("Movies", null, true);
+        final var updated = category.clone().update("Films", null, true);
+        // The replica still has the old row when read right after the write
+        Mockito.when(delegate.findById(category.getId()))
+                .thenReturn(Optional.of(category), Optional.of(category), Optional.of(updated), Optional.of(updated));
+        Mockito.when(delegate.update(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        repository.findById(category.getId());
+        repository.update(updated);
+
+        final var fromReplica = ReplicaRouting.readOnly(() -> repository.findById(category.getId()));
+        Assertions.assertEquals("Movies", fromReplica.get().getName());
+
+        ReplicaRouting.pinToPrimary();
+        try {
+            final var pinned = ReplicaRouting.readOnly(() -> repository.findById(category.getId()));
+            Assertions.assertEquals("Films", pinned.get().getName());
+        } finally {
+            ReplicaRouting.unpin();
+        }
+
+        Assertions.assertEquals("Films", repository.findById(category.getId()).get().getName());
+        Mockito.verify(delegate, Mockito.times(4)).findById(category.getId());
+    }
+
+    @Test
+    public void givenNoReplica_whenCallsFindByIdAsReadOnly_shouldServeItFromMemory() {
+        final var category = Category.newCategory("Movies", null, true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        ReplicaRouting.readOnly(() -> repository.findById(category.getId()));
+        ReplicaRouting.readOnly(() -> repository.findById(category.getId()));
+
+        Mockito.verify(delegate, Mockito.times(1)).findById(category.getId());
+    }
+}
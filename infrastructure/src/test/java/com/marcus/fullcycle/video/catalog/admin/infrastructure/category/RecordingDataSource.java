@@ -0,0 +1,88 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Keeps every prepared statement run through the data source along with the
+ * values bound to it, so tests can look at the queries generated for them as
+ * they were actually run. Register {@link #wrapping()} in the test context.
+ */
+public final class RecordingDataSource {
+    private static final List<Execution> EXECUTIONS = new CopyOnWriteArrayList<>();
+
+    public record Execution(String sql, List<Object> parameters) {
+    }
+
+    private RecordingDataSource() {
+    }
+
+    public static BeanPostProcessor wrapping() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+            }
+        };
+    }
+
+    public static List<Execution> drain() {
+        final var executions = List.copyOf(EXECUTIONS);
+        EXECUTIONS.clear();
+        return executions;
+    }
+
+    private static DataSource wrap(final DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, args, result) ->
+                result instanceof Connection connection ? wrap(connection) : result);
+    }
+
+    private static Connection wrap(final Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) ->
+                result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")
+                        ? wrap(statement, (String) args[0])
+                        : result);
+    }
+
+    private static PreparedStatement wrap(final PreparedStatement statement, final String sql) {
+        final var parameters = new TreeMap<Integer, Object>();
+        return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+            final var name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index)
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            else if (name.equals("clearParameters"))
+                parameters.clear();
+            else if (name.startsWith("execute") && (args == null || args.length == 0))
+                EXECUTIONS.add(new Execution(sql, new ArrayList<>(parameters.values())));
+            return result;
+        });
+    }
+
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final T target, final AfterCall afterCall) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return afterCall.apply(method, args, method.invoke(target, args));
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+}
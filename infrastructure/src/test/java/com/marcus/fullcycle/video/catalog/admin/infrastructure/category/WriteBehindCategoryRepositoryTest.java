@@ -0,0 +1,160 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryRepository;
+import com.marcus.fullcycle.video.catalog.admin.domain.exceptions.ConflictException;
+import com.marcus.fullcycle.video.catalog.admin.domain.validation.Error;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class WriteBehindCategoryRepositoryTest {
+    private CategoryRepository delegate;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryRepository.class);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void givenACategory_whenCallsCreate_shouldAcknowledgeAndFlushItInTheBackground() {
+        final var category = Category.newCategory("Movies", null, true);
+        Mockito.when(delegate.createAll(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        try (final var repository = new WriteBehindCategoryRepository(delegate, 10, 10, 10, registry)) {
+            Assertions.assertSame(category, repository.create(category));
+
+            Mockito.verify(delegate, Mockito.timeout(5_000))
+                    .createAll(Mockito.argThat(batch -> batch.size() == 1 && batch.get(0) == category));
+        }
+
+        Mockito.verify(delegate, Mockito.never()).create(Mockito.any());
+        Assertions.assertEquals(1, registry.get("categories.write_behind.flushed").counter().count());
+    }
+
+    @Test
+    public void givenAnUpdate_whenCallsUpdate_shouldReturnTheCategoryAtItsNextVersion() {
+        final var category = Category.newCategory("Movies", null, true);
+        Mockito.when(delegate.updateAll(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        try (final var repository = new WriteBehindCategoryRepository(delegate, 10, 10, 10, registry)) {
+            Assertions.assertEquals(1, repository.update(category).getVersion());
+        }
+
+        Mockito.verify(delegate, Mockito.times(1)).updateAll(Mockito.any());
+    }
+
+    @Test
+    public void givenPendingWrites_whenCallsClose_shouldFlushThemAll() {
+        Mockito.when(delegate.createAll(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        // A flush interval long enough for nothing to be flushed before close
+        final var repository = new WriteBehindCategoryRepository(delegate, 100, 50, 60_000, registry);
+        for (int i = 0; i < 20; i++)
+            repository.create(Category.newCategory("Category " + i, null, true));
+
+        repository.close();
+
+        Assertions.assertEquals(20, registry.get("categories.write_behind.flushed").counter().count());
+        Assertions.assertEquals(0, registry.get("categories.write_behind.queue.depth").gauge().value());
+        Assertions.assertEquals(0, registry.get("categories.write_behind.flush.lag").gauge().value());
+    }
+
+    @Test
+    public void givenAFullBuffer_whenCallsCreate_shouldWaitForRoom() throws Exception {
+        final var flushing = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        Mockito.when(delegate.createAll(Mockito.any())).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await();
+            return invocation.getArgument(0);
+        });
+
+        try (final var repository = new WriteBehindCategoryRepository(delegate, 2, 1, 1, registry)) {
+            repository.create(Category.newCategory("Movies", null, true));
+            Assertions.assertTrue(flushing.await(5, TimeUnit.SECONDS));
+
+            // A write holds its slot until it is flushed: this one fills the buffer
+            repository.create(Category.newCategory("Series", null, true));
+            final var blocked = CompletableFuture.runAsync(
+                    () -> repository.create(Category.newCategory("Documentaries", null, true)));
+
+            Assertions.assertThrows(TimeoutException.class, () -> blocked.get(200, TimeUnit.MILLISECONDS));
+            Assertions.assertEquals(2, repository.queueDepth());
+
+            release.countDown();
+            blocked.get(5, TimeUnit.SECONDS);
+        }
+
+        Assertions.assertEquals(3, registry.get("categories.write_behind.flushed").counter().count());
+    }
+
+    @Test
+    public void givenAFailingWrite_whenFlushing_shouldOnlyDropThatWrite() {
+        final var valid = Category.newCategory("Movies", null, true);
+        final var stale = Category.newCategory("Series", null, true);
+        final var conflict = ConflictException.with(new Error("Category was changed"));
+
+        Mockito.when(delegate.updateAll(Mockito.any())).thenThrow(conflict);
+        Mockito.when(delegate.update(Mockito.same(valid))).thenReturn(valid);
+        Mockito.when(delegate.update(Mockito.same(stale))).thenThrow(conflict);
+
+        final var repository = new WriteBehindCategoryRepository(delegate, 10, 10, 60_000, registry);
+        repository.update(valid);
+        repository.update(stale);
+        repository.close();
+
+        Mockito.verify(delegate, Mockito.times(1)).update(Mockito.same(valid));
+        Assertions.assertEquals(1, registry.get("categories.write_behind.flushed").counter().count());
+        Assertions.assertEquals(1, registry.get("categories.write_behind.failed").counter().count());
+    }
+
+    @Test
+    public void givenADelegateFailingWithAnError_whenFlushing_shouldWriteLaterWritesThrough() throws Exception {
+        final var lost = Category.newCategory("Movies", null, true);
+        final var later = Category.newCategory("Series", null, true);
+        Mockito.when(delegate.createAll(Mockito.any())).thenThrow(new AssertionError("Flusher killed"));
+        Mockito.when(delegate.create(Mockito.same(later))).thenReturn(later);
+
+        final var repository = new WriteBehindCategoryRepository(delegate, 1, 1, 1, registry);
+        repository.create(lost);
+
+        // The buffer is full until the dying flusher drops the first write, then the flusher is gone
+        final var written = CompletableFuture.supplyAsync(() -> repository.create(later));
+
+        Assertions.assertSame(later, written.get(5, TimeUnit.SECONDS));
+        // Waits for the flusher to be done dropping
+        repository.close();
+
+        Mockito.verify(delegate, Mockito.times(1)).create(Mockito.same(later));
+        Mockito.verify(delegate, Mockito.never()).create(Mockito.same(lost));
+        Assertions.assertEquals(1, registry.get("categories.write_behind.failed").counter().count());
+        Assertions.assertEquals(0, repository.queueDepth());
+    }
+
+    @Test
+    public void givenAClosedRepository_whenCallsCreate_shouldWriteItThroughWithoutFlushing() {
+        final var category = Category.newCategory("Movies", null, true);
+        Mockito.when(delegate.create(Mockito.same(category))).thenReturn(category);
+
+        final var repository = new WriteBehindCategoryRepository(delegate, 10, 10, 60_000, registry);
+        repository.close();
+
+        Assertions.assertSame(category, repository.create(category));
+        Mockito.verify(delegate, Mockito.times(1)).create(Mockito.same(category));
+        Mockito.verify(delegate, Mockito.never()).createAll(Mockito.any());
+        Assertions.assertEquals(0, repository.queueDepth());
+    }
+}
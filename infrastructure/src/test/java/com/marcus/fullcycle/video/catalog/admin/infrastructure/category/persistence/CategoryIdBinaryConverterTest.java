@@ -0,0 +1,57 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+
+public class CategoryIdBinaryConverterTest {
+    private final CategoryIdBinaryConverter converter = new CategoryIdBinaryConverter();
+
+    @Test
+    public void givenAUuidId_whenConverted_shouldRoundTripThroughSixteenBytes() {
+        final var expectedId = CategoryId.from(UUID.randomUUID());
+
+        final var bytes = converter.convertToDatabaseColumn(expectedId);
+
+        Assertions.assertEquals(16, bytes.length);
+        Assertions.assertEquals(expectedId, converter.convertToEntityAttribute(bytes));
+        Assertions.assertEquals(expectedId.getValue(), converter.convertToEntityAttribute(bytes).getValue());
+    }
+
+    @Test
+    public void givenAnUpperCaseUuidId_whenConverted_shouldStoreTheSameBytesAsInLowerCase() {
+        final var uuid = UUID.randomUUID().toString();
+
+        Assertions.assertArrayEquals(
+                converter.convertToDatabaseColumn(CategoryId.from(uuid)),
+                converter.convertToDatabaseColumn(CategoryId.from(uuid.toUpperCase())));
+    }
+
+    @Test
+    public void givenUuidIds_whenConverted_shouldKeepTheirOrder() {
+        final var lower = CategoryId.from("00000000-0000-0000-0000-0000000000ff");
+        final var higher = CategoryId.from("00000000-0000-0000-0000-000000000100");
+
+        Assertions.assertTrue(Arrays.compareUnsigned(
+                converter.convertToDatabaseColumn(lower),
+                converter.convertToDatabaseColumn(higher)) < 0);
+        Assertions.assertTrue(lower.compareTo(higher) < 0);
+    }
+
+    @Test
+    public void givenANonUuidId_whenConverted_shouldSendItsTextBytes() {
+        Assertions.assertArrayEquals("123".getBytes(StandardCharsets.UTF_8),
+                converter.convertToDatabaseColumn(CategoryId.from("123")));
+    }
+
+    @Test
+    public void givenNull_whenConverted_shouldReturnNull() {
+        Assertions.assertNull(converter.convertToDatabaseColumn(null));
+        Assertions.assertNull(converter.convertToEntityAttribute(null));
+    }
+}
@@ -0,0 +1,113 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.category.persistence;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.marcus.fullcycle.video.catalog.admin.MySqlRepositoryTest;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.Category;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+
+/**
+ * Runs the batch writer on a driver that reports every batched statement as
+ * {@link Statement#SUCCESS_NO_INFO}, like MySQL may with
+ * {@code rewriteBatchedStatements=true}.
+ */
+@MySqlRepositoryTest
+public class CategoryJdbcBatchWriterTest {
+    @TestConfiguration
+    static class NoInfoConfig {
+        @Bean
+        static BeanPostProcessor reportingNoInfo() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                    return bean instanceof DataSource dataSource ? noInfo(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private CategoryJdbcBatchWriter batchWriter;
+
+    @Autowired
+    private CategoryJpaRepository jpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void givenADriverReportingNoInfo_whenCallsUpdateAllAtVersion_shouldStillTellTheStaleVersions() {
+        final var current = Category.newCategory("Movies", null, true);
+        final var stale = Category.newCategory("Series", null, true);
+        jpaRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(current), CategoryJpaEntity.from(stale)));
+
+        final var staleUpdate = Category.with(stale.getId(), "Shows", null, true, stale.getCreatedAt(),
+                stale.getUpdatedAt(), null, stale.getVersion() + 1);
+        final var updated = batchWriter.updateAllAtVersion(List.of(
+                current.clone().update("Films", null, true), staleUpdate));
+
+        Assertions.assertArrayEquals(new boolean[] { true, false }, updated);
+        Assertions.assertEquals("Films:" + (current.getVersion() + 1), nameAndVersion(current.getId()));
+        Assertions.assertEquals("Series:" + stale.getVersion(), nameAndVersion(stale.getId()));
+    }
+
+    // Read with JDBC, as the persistence context still holds the entities as saved
+    private String nameAndVersion(final CategoryId id) {
+        return jdbcTemplate.queryForObject("SELECT name, version FROM categories WHERE id = ?",
+                (resultSet, rowNum) -> resultSet.getString("name") + ":" + resultSet.getLong("version"),
+                CategoryJdbcMapping.toIdColumn(id));
+    }
+
+    private static DataSource noInfo(final DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, result) ->
+                result instanceof Connection connection ? noInfo(connection) : result);
+    }
+
+    private static Connection noInfo(final Connection connection) {
+        return proxy(Connection.class, connection, (method, result) ->
+                result instanceof PreparedStatement statement ? noInfo(statement) : result);
+    }
+
+    private static PreparedStatement noInfo(final PreparedStatement statement) {
+        return proxy(PreparedStatement.class, statement, (method, result) -> {
+            if (!method.getName().equals("executeBatch"))
+                return result;
+            final var counts = (int[]) result;
+            Arrays.fill(counts, Statement.SUCCESS_NO_INFO);
+            return counts;
+        });
+    }
+
+    private interface AfterCall {
+        Object apply(Method method, Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final T target, final AfterCall afterCall) {
+        return (T) Proxy.newProxyInstance(CategoryJdbcBatchWriterTest.class.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    try {
+                        return afterCall.apply(method, method.invoke(target, args));
+                    } catch (final InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,40 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryId;
+import com.marcus.fullcycle.video.catalog.admin.domain.category.CategoryIdStrategy;
+
+public class CategoryIdStrategyInitializerTest {
+    @AfterEach
+    public void resetStrategy() {
+        CategoryId.useStrategy(CategoryIdStrategy.TIME_ORDERED);
+    }
+
+    @Test
+    public void givenTheRandomStrategyProperty_whenInitialized_shouldGenerateUuidV4() {
+        initialize(new MockEnvironment().withProperty("categories.id-strategy", "random"));
+
+        Assertions.assertEquals(4, CategoryId.unique().toUuid().orElseThrow().version());
+    }
+
+    @Test
+    public void givenNoStrategyProperty_whenInitialized_shouldGenerateUuidV7() {
+        CategoryId.useStrategy(CategoryIdStrategy.RANDOM);
+
+        initialize(new MockEnvironment());
+
+        Assertions.assertEquals(7, CategoryId.unique().toUuid().orElseThrow().version());
+    }
+
+    private static void initialize(final MockEnvironment environment) {
+        try (final var context = new GenericApplicationContext()) {
+            context.setEnvironment(environment);
+            new CategoryIdStrategyInitializer().initialize(context);
+        }
+    }
+}
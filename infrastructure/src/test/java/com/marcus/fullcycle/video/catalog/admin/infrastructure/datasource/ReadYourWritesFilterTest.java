@@ -0,0 +1,83 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+
+public class ReadYourWritesFilterTest {
+    private static final long WINDOW_MILLIS = 5000;
+
+    private final Filter filter = new ReadYourWritesFilter(WINDOW_MILLIS);
+
+    @Test
+    public void givenAWrite_whenFiltered_shouldGiveTheClientAStickinessCookie() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var before = System.currentTimeMillis();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/categories"), response, (req, res) -> {
+        });
+
+        final var cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        Assertions.assertNotNull(cookie);
+        Assertions.assertTrue(Long.parseLong(cookie.getValue()) >= before + WINDOW_MILLIS);
+        Assertions.assertEquals(5, cookie.getMaxAge());
+    }
+
+    @Test
+    public void givenARead_whenFiltered_shouldNotGiveACookie() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/categories"), response, (req, res) -> {
+        });
+
+        Assertions.assertNull(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    }
+
+    @Test
+    public void givenAReadWithinTheWindow_whenFiltered_shouldPinItToThePrimary() throws Exception {
+        final var request = readWithDeadline(System.currentTimeMillis() + WINDOW_MILLIS / 2);
+
+        Assertions.assertTrue(pinnedDuring(request));
+    }
+
+    @Test
+    public void givenAReadAfterTheWindow_whenFiltered_shouldNotPinIt() throws Exception {
+        Assertions.assertFalse(pinnedDuring(readWithDeadline(System.currentTimeMillis() - 1)));
+    }
+
+    @Test
+    public void givenADeadlineBeyondOneWindow_whenFiltered_shouldNotPinIt() throws Exception {
+        Assertions.assertFalse(pinnedDuring(readWithDeadline(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void givenAMalformedCookie_whenFiltered_shouldNotPinIt() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/categories/123");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "soon"));
+
+        Assertions.assertFalse(pinnedDuring(request));
+    }
+
+    private boolean pinnedDuring(final MockHttpServletRequest request) throws Exception {
+        final var pinned = new AtomicBoolean();
+        final FilterChain chain = (req, res) -> pinned.set(!ReplicaRouting.readOnly(ReplicaRouting::usesReplica));
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        Assertions.assertTrue(ReplicaRouting.readOnly(ReplicaRouting::usesReplica), "should unpin after the request");
+        return pinned.get();
+    }
+
+    private static MockHttpServletRequest readWithDeadline(final long deadline) {
+        final var request = new MockHttpServletRequest("GET", "/categories/123");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(deadline)));
+        return request;
+    }
+}
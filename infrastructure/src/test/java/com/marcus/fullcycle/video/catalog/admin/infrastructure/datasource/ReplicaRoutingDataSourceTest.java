@@ -0,0 +1,77 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.datasource;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.marcus.fullcycle.video.catalog.admin.infrastructure.utils.ParallelQueryExecutor;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica, each
+ * holding a row that tells which one it is.
+ */
+public class ReplicaRoutingDataSourceTest {
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        final var dataSource = new ReplicaRoutingDataSource(database("primary"), database("replica"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRouting.unpin();
+    }
+
+    @Test
+    public void givenNoReadOnlyScope_whenQuerying_shouldUseThePrimary() {
+        Assertions.assertEquals("primary", whichDatabase());
+    }
+
+    @Test
+    public void givenAReadOnlyScope_whenQuerying_shouldUseTheReplica() {
+        Assertions.assertEquals("replica", ReplicaRouting.readOnly(this::whichDatabase));
+        Assertions.assertEquals("primary", whichDatabase());
+    }
+
+    @Test
+    public void givenAThreadPinnedToThePrimary_whenQueryingInAReadOnlyScope_shouldUseThePrimary() {
+        ReplicaRouting.pinToPrimary();
+
+        Assertions.assertEquals("primary", ReplicaRouting.readOnly(this::whichDatabase));
+
+        ReplicaRouting.unpin();
+        Assertions.assertEquals("replica", ReplicaRouting.readOnly(this::whichDatabase));
+    }
+
+    @Test
+    public void givenAReadOnlyScope_whenOffloadingAQuery_shouldRunItOnTheReplica() {
+        try (final var executor = new ParallelQueryExecutor(1)) {
+            final var offloaded = ReplicaRouting.readOnly(() -> executor.trySubmit(this::whichDatabase)
+                    .orElseThrow());
+            final var outside = executor.trySubmit(this::whichDatabase).orElseThrow();
+
+            Assertions.assertEquals("replica", ParallelQueryExecutor.join(offloaded));
+            Assertions.assertEquals("primary", ParallelQueryExecutor.join(outside));
+        }
+    }
+
+    private String whichDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM origin", String.class);
+    }
+
+    private static DataSource database(final String name) {
+        final var dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1");
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS origin");
+        jdbcTemplate.execute("CREATE TABLE origin (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO origin (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
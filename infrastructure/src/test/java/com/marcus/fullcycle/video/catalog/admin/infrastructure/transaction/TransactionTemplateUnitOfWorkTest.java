@@ -0,0 +1,73 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.transaction;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class TransactionTemplateUnitOfWorkTest {
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate repositoryMethod;
+    private TransactionTemplateUnitOfWork unitOfWork;
+
+    @BeforeEach
+    void setUp() {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:unit_of_work;DB_CLOSE_DELAY=-1", "sa", "");
+        final var transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS writes");
+        jdbcTemplate.execute("CREATE TABLE writes (id INT PRIMARY KEY)");
+        // Joins the unit of work, like a @Transactional repository method
+        repositoryMethod = new TransactionTemplate(transactionManager);
+        unitOfWork = new TransactionTemplateUnitOfWork(transactionManager);
+    }
+
+    @Test
+    public void givenAFailureTurnedIntoAResult_whenRollingBackOnIt_shouldReturnTheResult() {
+        final var result = unitOfWork.execute(this::writeThenFailAsResult, "failed"::equals);
+
+        Assertions.assertEquals("failed", result);
+        Assertions.assertEquals(0, countWrites());
+    }
+
+    @Test
+    public void givenAFailureTurnedIntoAResult_whenCommittingIt_shouldThrowUnexpectedRollbackException() {
+        Assertions.assertThrows(
+                UnexpectedRollbackException.class,
+                () -> unitOfWork.execute(this::writeThenFailAsResult));
+
+        Assertions.assertEquals(0, countWrites());
+    }
+
+    @Test
+    public void givenAResultNotRolledBackOn_whenCallsExecute_shouldCommitIt() {
+        final var result = unitOfWork.execute(() -> {
+            jdbcTemplate.update("INSERT INTO writes (id) VALUES (1)");
+            return "written";
+        }, "failed"::equals);
+
+        Assertions.assertEquals("written", result);
+        Assertions.assertEquals(1, countWrites());
+    }
+
+    private String writeThenFailAsResult() {
+        jdbcTemplate.update("INSERT INTO writes (id) VALUES (1)");
+        try {
+            repositoryMethod.executeWithoutResult(status -> {
+                throw new IllegalStateException("Repository error");
+            });
+            return "written";
+        } catch (final IllegalStateException e) {
+            return "failed";
+        }
+    }
+
+    private int countWrites() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM writes", Integer.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.marcus.fullcycle.video.catalog.admin.infrastructure.utils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ParallelQueryExecutorTest {
+    @Test
+    public void givenAPoolOfTwentyConnections_whenSizedForAQuarter_shouldAllowFiveQueries() {
+        try (final var executor = ParallelQueryExecutor.forPool(20, 0.25)) {
+            Assertions.assertEquals(5, executor.getMaxConcurrency());
+        }
+    }
+
+    @Test
+    public void givenATinyPool_whenSizedForAFraction_shouldAllowAtLeastOneQuery() {
+        try (final var executor = ParallelQueryExecutor.forPool(2, 0.25)) {
+            Assertions.assertEquals(1, executor.getMaxConcurrency());
+        }
+    }
+
+    @Test
+    public void givenAQuery_whenSubmitted_shouldReturnItsResultAndReleaseThePermit() {
+        try (final var executor = new ParallelQueryExecutor(1)) {
+            final var future = executor.trySubmit(() -> 42L).orElseThrow();
+
+            Assertions.assertEquals(42L, ParallelQueryExecutor.join(future));
+            Assertions.assertEquals(1, executor.getAvailablePermits());
+        }
+    }
+
+    @Test
+    public void givenAllPermitsInUse_whenSubmitting_shouldDecline() throws InterruptedException {
+        try (final var executor = new ParallelQueryExecutor(1)) {
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+
+            final var running = executor.trySubmit(() -> {
+                started.countDown();
+                await(release);
+                return 1L;
+            }).orElseThrow();
+            started.await();
+
+            Assertions.assertTrue(executor.trySubmit(() -> 2L).isEmpty());
+
+            release.countDown();
+            Assertions.assertEquals(1L, ParallelQueryExecutor.join(running));
+            Assertions.assertTrue(executor.trySubmit(() -> 3L).isPresent());
+        }
+    }
+
+    @Test
+    public void givenAFailingQuery_whenJoined_shouldRethrowItsException() {
+        try (final var executor = new ParallelQueryExecutor(1)) {
+            final var future = executor.<Long>trySubmit(() -> {
+                throw new IllegalStateException("Repository error");
+            }).orElseThrow();
+
+            final var exception = Assertions.assertThrows(IllegalStateException.class,
+                    () -> ParallelQueryExecutor.join(future));
+
+            Assertions.assertEquals("Repository error", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void givenAFailingCallerQuery_whenRunAlongside_shouldCancelThePendingQuery() throws InterruptedException {
+        try (final var executor = new ParallelQueryExecutor(1)) {
+            final var started = new CountDownLatch(1);
+            final var interrupted = new CountDownLatch(1);
+
+            final var pending = executor.trySubmit(() -> {
+                started.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (final InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return 1L;
+            });
+            started.await();
+
+            Assertions.assertThrows(IllegalStateException.class, () -> ParallelQueryExecutor.alongside(pending, () -> {
+                throw new IllegalStateException("Repository error");
+            }));
+
+            Assertions.assertTrue(pending.orElseThrow().isCancelled());
+            interrupted.await();
+            Assertions.assertTimeout(Duration.ofSeconds(5), () -> {
+                while (executor.getAvailablePermits() == 0)
+                    Thread.sleep(10);
+            });
+        }
+    }
+
+    @Test
+    public void givenASucceedingCallerQuery_whenRunAlongside_shouldLeaveThePendingQueryRunning() {
+        try (final var executor = new ParallelQueryExecutor(1)) {
+            final var pending = executor.trySubmit(() -> 42L);
+
+            Assertions.assertEquals("page", ParallelQueryExecutor.alongside(pending, () -> "page"));
+            Assertions.assertEquals(42L, ParallelQueryExecutor.join(pending.orElseThrow()));
+            Assertions.assertEquals(1, executor.getAvailablePermits());
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package db.migration;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class V2__Category_search_columnsTest {
+    private static final String URL =
+            "jdbc:h2:mem:category_search_columns;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Test
+    public void givenExistingCategories_whenMigrating_shouldBackfillTheNormalizedColumns() throws SQLException {
+        migrateTo("1");
+
+        final var longName = "ß".repeat(255);
+        final var rows = Map.of(
+                "1", new String[] { "Ação", "Filmes de ação" },
+                "2", new String[] { "Őrült Ǹame", null },
+                "3", new String[] { "Straße", "Ἀθῆναι, Crème brûlée" },
+                "4", new String[] { longName, longName });
+        try (final var connection = DriverManager.getConnection(URL, "sa", "");
+             final var insert = connection.prepareStatement(
+                     "INSERT INTO categories (id, name, description, active, created_at, updated_at)"
+                             + " VALUES (?, ?, ?, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")) {
+            for (final var row : rows.entrySet()) {
+                insert.setString(1, row.getKey());
+                insert.setString(2, row.getValue()[0]);
+                insert.setString(3, row.getValue()[1]);
+                insert.executeUpdate();
+            }
+        }
+
+        migrateTo("2");
+
+        final var backfilled = new HashMap<String, String[]>();
+        try (final var connection = DriverManager.getConnection(URL, "sa", "");
+             final var statement = connection.createStatement();
+             final var resultSet = statement.executeQuery(
+                     "SELECT id, name_search, description_search FROM categories")) {
+            while (resultSet.next())
+                backfilled.put(resultSet.getString("id"), new String[] {
+                        resultSet.getString("name_search"), resultSet.getString("description_search") });
+        }
+
+        // Spelled out rather than computed with the application's normalization, which V2 must not follow
+        Assertions.assertEquals(rows.keySet(), backfilled.keySet());
+        Assertions.assertArrayEquals(new String[] { "ACAO", "FILMES DE ACAO" }, backfilled.get("1"));
+        Assertions.assertArrayEquals(new String[] { "ORULT NAME", null }, backfilled.get("2"));
+        Assertions.assertArrayEquals(new String[] { "STRASSE", "ΑΘΗΝΑΙ, CREME BRULEE" }, backfilled.get("3"));
+        Assertions.assertArrayEquals(new String[] { "S".repeat(255), "S".repeat(510) }, backfilled.get("4"));
+    }
+
+    private static void migrateTo(final String version) {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                // The ones of application-test.yml, for the migrations of later versions
+                .placeholders(Map.of(
+                        "id_to_binary", "CAST(CAST(id AS UUID) AS BINARY(16))",
+                        "binary_to_id", "CAST(CAST(id AS UUID) AS VARCHAR(36))"))
+                .target(version)
+                .load()
+                .migrate();
+    }
+}
@@ -0,0 +1,10 @@
+-- Test database only. MySQL reads the sort indexes of V4 backwards for descending sorts,
+-- H2 only in the direction they were declared, so descending listings get their own
+-- indexes here and CategoryQueryPlanTest checks their plans like MySQL would run them.
+DROP INDEX IF EXISTS idx_categories_name_desc;
+DROP INDEX IF EXISTS idx_categories_created_at_desc;
+DROP INDEX IF EXISTS idx_categories_active_created_at_desc;
+
+CREATE INDEX idx_categories_name_desc ON categories (name DESC, id DESC);
+CREATE INDEX idx_categories_created_at_desc ON categories (created_at DESC, id DESC);
+CREATE INDEX idx_categories_active_created_at_desc ON categories (active, created_at DESC, id DESC);